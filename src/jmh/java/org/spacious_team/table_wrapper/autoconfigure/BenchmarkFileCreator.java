@@ -0,0 +1,140 @@
+/*
+ * Table Wrapper Spring Boot Starter
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.autoconfigure;
+
+import nl.fountain.xelem.XSerializer;
+import nl.fountain.xelem.XelemException;
+import nl.fountain.xelem.excel.Worksheet;
+import nl.fountain.xelem.excel.ss.XLWorkbook;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Creates temporary files of the same structure as {@code ReportPageFactoryTestFileCreator} does
+ * with the requested number of data rows.
+ */
+class BenchmarkFileCreator {
+    static final String SHEET_NAME = "SheetA";
+
+    /**
+     * @param format file extension: "xls", "xlsx", "xml" or "csv"
+     */
+    static Path createFile(String format, int rows) throws IOException, XelemException {
+        switch (format) {
+            case "xls":
+                return createXlsFile(rows);
+            case "xlsx":
+                return createXlsxFile(rows);
+            case "xml":
+                return createXmlFile(rows);
+            case "csv":
+                return createCsvFile(rows);
+        }
+        throw new IllegalArgumentException("Unexpected format: " + format);
+    }
+
+    static Path createXlsFile(int rows) throws IOException {
+        Path path = createTempFile("xls");
+        try (Workbook workbook = new HSSFWorkbook()) {
+            writeExcelFile(path, workbook, rows);
+        }
+        return path;
+    }
+
+    static Path createXlsxFile(int rows) throws IOException {
+        Path path = createTempFile("xlsx");
+        SXSSFWorkbook workbook = new SXSSFWorkbook();
+        try {
+            writeExcelFile(path, workbook, rows);
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+        return path;
+    }
+
+    private static void writeExcelFile(Path path, Workbook workbook, int rows) throws IOException {
+        try (OutputStream os = Files.newOutputStream(path)) {
+            Sheet sheet = workbook.createSheet(SHEET_NAME);
+            createHeader(sheet);
+            for (int i = 2; i < rows + 2; i++) {
+                Row row = sheet.createRow(i);
+                row.createCell(0).setCellValue("a" + i);
+                row.createCell(1).setCellValue(i);
+                row.createCell(2).setCellValue(i * 0.01);
+            }
+            workbook.write(os);
+        }
+    }
+
+    private static void createHeader(Sheet sheet) {
+        Row row = sheet.createRow(0);
+        row.createCell(0).setCellValue("Table 1");
+        row = sheet.createRow(1);
+        row.createCell(0).setCellValue("a");
+        row.createCell(1).setCellValue("b");
+        row.createCell(2).setCellValue("c");
+    }
+
+    static Path createXmlFile(int rows) throws IOException, XelemException {
+        Path path = createTempFile("xml");
+        XLWorkbook workbook = new XLWorkbook();
+        workbook.setFileName(path.toString());
+        Worksheet worksheet = workbook.addSheet(SHEET_NAME);
+        worksheet.addRow().addCell().setData("Table 1");
+        nl.fountain.xelem.excel.Row row = worksheet.addRow();
+        row.addCell().setData("a");
+        row.addCell().setData("b");
+        row.addCell().setData("c");
+        for (int i = 2; i < rows + 2; i++) {
+            row = worksheet.addRow();
+            row.addCell().setData("a" + i);
+            row.addCell().setData(i);
+            row.addCell().setData(i * 0.01);
+        }
+        new XSerializer().serialize(workbook);
+        return path;
+    }
+
+    static Path createCsvFile(int rows) throws IOException {
+        Path path = createTempFile("csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(path, UTF_8)) {
+            writer.write("Table 1\na;b;c\n");
+            for (int i = 2; i < rows + 2; i++) {
+                writer.write("a" + i + ";" + i + ";" + (i * 0.01) + "\n");
+            }
+        }
+        return path;
+    }
+
+    private static Path createTempFile(String extension) throws IOException {
+        return Files.createTempFile("table-wrapper-benchmark", "." + extension);
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Table Wrapper Spring Boot Starter
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.autoconfigure;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.spacious_team.table_wrapper.api.ReportPage;
+import org.spacious_team.table_wrapper.csv.CsvReportPage;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares table name lookups on a wide sheet with several tables by cells scanning and by the index.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class CellValueIndexBenchmark {
+
+    private static final int COLUMNS = 30;
+    private static final int TABLES = 10;
+
+    @Param({"1000", "100000"})
+    int rows;
+
+    ReportPage scannedPage;
+    ReportPage indexedPage;
+
+    @Setup
+    public void setUp() {
+        String[][] cells = new String[rows][];
+        for (int row = 0; row < rows; row++) {
+            cells[row] = new String[COLUMNS];
+            for (int column = 0; column < COLUMNS; column++) {
+                cells[row][column] = (column % 2 == 0) ? "value " + (row % 100) : String.valueOf(row * column);
+            }
+        }
+        for (int table = 0; table < TABLES; table++) {
+            cells[rows / TABLES * table] = new String[]{"Table " + table};
+        }
+        CompactReportPage reportPage = CompactReportPage.of(new CsvReportPage(cells));
+        scannedPage = reportPage;
+        indexedPage = reportPage.indexed();
+        indexedPage.find("table");  // builds index
+    }
+
+    @Benchmark
+    public void scan(Blackhole blackhole) {
+        findTables(scannedPage, blackhole);
+    }
+
+    @Benchmark
+    public void index(Blackhole blackhole) {
+        findTables(indexedPage, blackhole);
+    }
+
+    private static void findTables(ReportPage reportPage, Blackhole blackhole) {
+        for (int table = 0; table < TABLES; table++) {
+            blackhole.consume(reportPage.find("Table " + table));
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Table Wrapper Spring Boot Starter
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.autoconfigure;
+
+import com.univocity.parsers.csv.CsvParserSettings;
+import org.openjdk.jmh.annotations.*;
+import org.spacious_team.table_wrapper.api.ReportPage;
+import org.spacious_team.table_wrapper.csv.CsvReportPage;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Benchmarks ReportPage type resolution and prototype bean creation
+ * by {@link DefaultContextAwareReportPageFactory#create(Object...)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContextAwareReportPageFactoryBenchmark {
+
+    private static final byte[] CSV_DATA = "Table 1\na;b;c\n1;2;3\na4;b5;c6\n".getBytes(UTF_8);
+    AnnotationConfigApplicationContext context;
+    ContextAwareReportPageFactory factory;
+    String[][] cells;
+    CsvParserSettings settings;
+
+    @Setup
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext(TableWrapperAutoConfiguration.class);
+        factory = context.getBean(ContextAwareReportPageFactory.class);
+        cells = new String[][]{{"Table 1"}, {"a", "b", "c"}, {"1", "2", "3"}};
+        settings = CsvReportPage.getDefaultCsvParserSettings();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * CsvReportPage is registered the last, so all the registered types are checked
+     */
+    @Benchmark
+    public ReportPage createCsvReportPageFromArray() {
+        return factory.create((Object) cells);
+    }
+
+    @Benchmark
+    public ReportPage createCsvReportPageWithSettings() {
+        return factory.create(new ByteArrayInputStream(CSV_DATA), UTF_8, settings);
+    }
+
+    @Benchmark
+    public Object createWithUnknownArguments() {
+        try {
+            return factory.create("arg1", "arg2", "arg3");
+        } catch (ReportPageInstantiationException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Table Wrapper Spring Boot Starter
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.autoconfigure;
+
+import nl.fountain.xelem.XelemException;
+import org.openjdk.jmh.annotations.*;
+import org.spacious_team.table_wrapper.api.ReportPage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link DefaultReportPageFactory} by Path and InputStream for all formats.
+ * InputStream is read from a file to include buffering costs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class ReportPageFactoryBenchmark {
+
+    @Param({"xls", "xlsx", "xml", "csv"})
+    String format;
+
+    @Param({"100", "10000", "60000"})  // xls sheet is limited by 65536 rows
+    int rows;
+
+    DefaultReportPageFactory factory;
+    Path path;
+
+    @Setup
+    public void setUp() throws IOException, XelemException {
+        factory = new DefaultReportPageFactory();
+        path = BenchmarkFileCreator.createFile(format, rows);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    @Benchmark
+    public ReportPage createByPath() {
+        return factory.create(path);
+    }
+
+    @Benchmark
+    public ReportPage createByInputStream() throws IOException {
+        try (InputStream is = Files.newInputStream(path)) {
+            return factory.create(is);
+        }
+    }
+}
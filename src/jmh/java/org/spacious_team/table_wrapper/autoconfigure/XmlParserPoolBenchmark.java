@@ -0,0 +1,78 @@
+/*
+ * Table Wrapper Spring Boot Starter
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.autoconfigure;
+
+import nl.fountain.xelem.XelemException;
+import nl.fountain.xelem.excel.Workbook;
+import nl.fountain.xelem.lex.ExcelReader;
+import org.openjdk.jmh.annotations.*;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares a new xelem {@link ExcelReader} per parsing with pooled readers under concurrent load.
+ * Run with {@code -prof gc} to compare allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@Threads(4)
+public class XmlParserPoolBenchmark {
+
+    @Param({"10", "1000"})
+    int rows;
+
+    XmlParserPool<ExcelReader> pool;
+    byte[] bytes;
+
+    @Setup
+    public void setUp() throws IOException, XelemException {
+        pool = new XmlParserPool<>(ExcelReader::new);
+        Path path = BenchmarkFileCreator.createXmlFile(rows);
+        try {
+            bytes = Files.readAllBytes(path);
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Benchmark
+    public Workbook newReader() throws ParserConfigurationException, SAXException, IOException {
+        ExcelReader reader = new ExcelReader();
+        return reader.getWorkbook(new InputSource(new ByteArrayInputStream(bytes)));
+    }
+
+    @Benchmark
+    public Workbook pooledReader() throws ParserConfigurationException, SAXException, IOException {
+        ExcelReader reader = pool.borrow();
+        Workbook workbook = reader.getWorkbook(new InputSource(new ByteArrayInputStream(bytes)));
+        pool.release(reader);
+        return workbook;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Table Wrapper Spring Boot Starter
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.autoconfigure;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spacious_team.table_wrapper.api.ReportPage;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Result of ReportPage creation for one source of the batch.
+ *
+ * @param <S> source type, for example Path or InputStream
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor(access = PRIVATE)
+public class BatchResult<S> {
+
+    /**
+     * Index of the source in the batch
+     */
+    private final int index;
+    private final S source;
+    private final @Nullable ReportPage reportPage;
+    private final @Nullable Exception exception;
+
+    static <S> BatchResult<S> success(int index, S source, ReportPage reportPage) {
+        return new BatchResult<>(index, source, reportPage, null);
+    }
+
+    static <S> BatchResult<S> failure(int index, S source, Exception exception) {
+        return new BatchResult<>(index, source, null, exception);
+    }
+
+    public boolean isSuccess() {
+        return reportPage != null;
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Table Wrapper Spring Boot Starter
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.autoconfigure;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.springframework.util.Assert;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Bounded LRU cache. Entries are evicted by entry count, by total weight of the keys
+ * and after time-to-live expiration since loading. Expired entries are evicted on the cache access.
+ *
+ * @param <K> key type, key weight should not change
+ */
+@Slf4j
+abstract class BoundedCache<K> {
+
+    private final int maxEntries;
+    private final long maxWeight;
+    private final Duration timeToLive;
+    private final Clock clock;
+    private final LinkedHashMap<K, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long weight = 0;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    BoundedCache(int maxEntries, long maxWeight, Duration timeToLive, Clock clock) {
+        Assert.isTrue(maxEntries > 0, "Max entries should be positive");
+        Assert.isTrue(maxWeight > 0, "Max weight should be positive");
+        Assert.isTrue(!timeToLive.isNegative() && !timeToLive.isZero(), "Time to live should be positive");
+        this.maxEntries = maxEntries;
+        this.maxWeight = maxWeight;
+        this.timeToLive = timeToLive;
+        this.clock = clock;
+    }
+
+    abstract long getWeight(K key);
+
+    /**
+     * Returns cached value or loads and caches it.
+     * Concurrent calls with the same key may load the value more than once.
+     */
+    <T> T get(K key, Callable<T> loader) throws Exception {
+        return get(key, loader, () -> null);
+    }
+
+    /**
+     * Returns cached value or loads and caches it.
+     * Concurrent calls with the same key may load the value more than once.
+     *
+     * @param resource called after value loading, returns resource to be released once the loaded value
+     *                 is evicted or is not cached
+     */
+    @SuppressWarnings("unchecked")
+    <T> T get(K key, Callable<T> loader, Supplier<? extends @Nullable AutoCloseable> resource) throws Exception {
+        long now = clock.millis();
+        synchronized (this) {
+            @Nullable Entry entry = entries.get(key);
+            if (entry != null && entry.expiresAt > now) {
+                hits.increment();
+                return (T) entry.value;
+            } else if (entry != null) {
+                remove(key);
+            }
+        }
+        misses.increment();
+        T value = loader.call();
+        put(key, new Entry(value, resource.get(), now + timeToLive.toMillis()));
+        return value;
+    }
+
+    private synchronized void put(K key, Entry entry) {
+        long keyWeight = getWeight(key);
+        if (keyWeight > maxWeight) {
+            entry.release();  // never cached
+            return;
+        }
+        @Nullable Entry previous = entries.put(key, entry);
+        if (previous != null) {
+            weight -= keyWeight;
+            previous.release();
+        }
+        weight += keyWeight;
+        evict(key);
+    }
+
+    /**
+     * Evicts expired entries and the least recently used entries exceeding the limits.
+     */
+    private void evict(K retained) {
+        long now = clock.millis();
+        Iterator<Map.Entry<K, Entry>> it = entries.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<K, Entry> eldest = it.next();
+            K key = eldest.getKey();
+            boolean isOverflow = entries.size() > maxEntries || weight > maxWeight;
+            if (eldest.getValue().expiresAt <= now || (isOverflow && !key.equals(retained))) {
+                it.remove();
+                weight -= getWeight(key);
+                evictions.increment();
+                eldest.getValue().release();
+            }
+        }
+    }
+
+    private void remove(K key) {
+        @Nullable Entry entry = entries.remove(key);
+        if (entry != null) {
+            weight -= getWeight(key);
+            evictions.increment();
+            entry.release();
+        }
+    }
+
+    public synchronized void clear() {
+        entries.values().forEach(Entry::release);
+        entries.clear();
+        weight = 0;
+    }
+
+    /**
+     * Returns the number of cached values.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns total weight of cached values.
+     */
+    public synchronized long weight() {
+        return weight;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    @RequiredArgsConstructor
+    private static class Entry {
+        private final Object value;
+        private final @Nullable AutoCloseable resource;
+        private final long expiresAt;
+
+        void release() {
+            if (resource != null) {
+                try {
+                    resource.close();
+                } catch (Exception e) {
+                    log.warn("Can't release cached value resource {}", resource, e);
+                }
+            }
+        }
+    }
+}
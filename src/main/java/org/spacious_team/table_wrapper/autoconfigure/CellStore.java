@@ -0,0 +1,109 @@
+/*
+ * Table Wrapper Spring Boot Starter
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.autoconfigure;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spacious_team.table_wrapper.csv.CsvReportPage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compact sheet cell values store filled by streaming parsers.
+ * Row and column indexes are expected in ascending order, but rows and cells may be skipped.
+ * Cells out of the row window are ignored.
+ */
+final class CellStore {
+
+    private static final String[] EMPTY_ROW = new String[0];
+    private final int firstRow;
+    private final int endRow;
+    private final List<String[]> rows = new ArrayList<>();
+    private @Nullable String[] row = EMPTY_ROW;
+    private int rowNum = -1;
+    private int rowLength = 0;
+
+    CellStore() {
+        this(null);
+    }
+
+    /**
+     * @param rowWindow rows to store, null for all rows
+     */
+    CellStore(@Nullable RowWindow rowWindow) {
+        this.firstRow = (rowWindow == null) ? 0 : rowWindow.getFirstRow();
+        this.endRow = (rowWindow == null) ? Integer.MAX_VALUE : rowWindow.getEndRow();
+    }
+
+    /**
+     * Returns true if the row and all the following rows are out of the row window,
+     * so the rest of the sheet may be skipped.
+     */
+    boolean isAfterWindow(int rowNum) {
+        return rowNum >= endRow;
+    }
+
+    void setCell(int rowNum, int columnNum, @Nullable String value) {
+        if (rowNum < firstRow || rowNum >= endRow) {
+            return;
+        }
+        if (rowNum != this.rowNum) {
+            startRow(rowNum);
+        }
+        if (columnNum >= row.length) {
+            row = Arrays.copyOf(row, Math.max(columnNum + 1, row.length * 2));
+        }
+        row[columnNum] = value;
+        rowLength = Math.max(rowLength, columnNum + 1);
+    }
+
+    private void startRow(int rowNum) {
+        flushRow();
+        while (rows.size() < rowNum) {
+            rows.add(EMPTY_ROW);
+        }
+        this.rowNum = rowNum;
+        this.row = new String[16];
+        this.rowLength = 0;
+    }
+
+    private void flushRow() {
+        if (rowNum >= 0) {
+            @SuppressWarnings("nullness")  // CsvReportPage accepts null cell values
+            String[] cells = Arrays.copyOf(row, rowLength);
+            rows.add(cells);
+        }
+    }
+
+    /**
+     * Returns the number of rows including skipped ones.
+     */
+    int getRowCount() {
+        return rowNum + 1;
+    }
+
+    CsvReportPage toReportPage() {
+        flushRow();
+        rowNum = -1;
+        String[][] cells = rows.toArray(new String[0][]);
+        rows.clear();
+        return new CsvReportPage(cells);
+    }
+}
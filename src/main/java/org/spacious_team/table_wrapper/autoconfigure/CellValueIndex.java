@@ -0,0 +1,167 @@
+/*
+ * Table Wrapper Spring Boot Starter
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.autoconfigure;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spacious_team.table_wrapper.api.TableCellAddress;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.TreeMap;
+
+/**
+ * Inverted index of {@link CompactReportPage} string cells: sorted normalized (trimmed lower case) cell texts
+ * and ordered offsets of cells having each text. Finds the first cell having text with the prefix
+ * by binary search instead of all cells scanning.
+ * <p>
+ * Numbers are not indexed, so the index is not used for prefixes which may match number text.
+ */
+final class CellValueIndex {
+
+    /**
+     * Prefix matching more texts is searched by cells scanning
+     */
+    private static final int MAX_MATCHED_TEXTS = 64;
+    private final IntBuffer rowOffsets;
+    private final IntBuffer columns;
+    private final String[] texts;
+    /**
+     * Ascending cell offsets for each text
+     */
+    private final int[][] cells;
+
+    /**
+     * @param stringType type of the cell referencing strings dictionary
+     */
+    CellValueIndex(IntBuffer rowOffsets,
+                   IntBuffer columns,
+                   ByteBuffer types,
+                   LongBuffer values,
+                   String[] strings,
+                   byte stringType) {
+        this.rowOffsets = rowOffsets;
+        this.columns = columns;
+        TreeMap<String, Integer> textIndexes = new TreeMap<>();
+        for (String string : strings) {
+            textIndexes.put(normalize(string), 0);
+        }
+        this.texts = textIndexes.keySet().toArray(new String[0]);
+        for (int i = 0; i < texts.length; i++) {
+            textIndexes.put(texts[i], i);
+        }
+        int[] stringTexts = new int[strings.length];
+        for (int i = 0; i < strings.length; i++) {
+            stringTexts[i] = textIndexes.get(normalize(strings[i]));
+        }
+        int cellCount = columns.limit();
+        int[] counts = new int[texts.length];
+        for (int cell = 0; cell < cellCount; cell++) {
+            if (types.get(cell) == stringType) {
+                counts[stringTexts[(int) values.get(cell)]]++;
+            }
+        }
+        this.cells = new int[texts.length][];
+        for (int i = 0; i < texts.length; i++) {
+            cells[i] = new int[counts[i]];
+        }
+        Arrays.fill(counts, 0);
+        for (int cell = 0; cell < cellCount; cell++) {
+            if (types.get(cell) == stringType) {
+                int text = stringTexts[(int) values.get(cell)];
+                cells[text][counts[text]++] = cell;
+            }
+        }
+    }
+
+    static String normalize(Object value) {
+        return String.valueOf(value).trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns true if no number text starts with the prefix, numbers consist of digits, minus and point.
+     */
+    static boolean isIndexed(String prefix) {
+        for (int i = 0, length = prefix.length(); i < length; i++) {
+            char c = prefix.charAt(i);
+            if ((c < '0' || c > '9') && c != '-' && c != '.') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Finds the first cell in row-major order within the range having text with the prefix.
+     *
+     * @param prefix normalized prefix, see {@link #isIndexed(String)}
+     * @return cell address or null if too many texts have the prefix and cells should be scanned
+     */
+    @Nullable
+    TableCellAddress find(String prefix, int startRow, int endRow, int startColumn, int endColumn) {
+        int rowCount = rowOffsets.limit() - 1;
+        int firstRow = Math.max(0, startRow);
+        int lastRow = Math.min(endRow, rowCount);
+        if (firstRow >= lastRow) {
+            return TableCellAddress.NOT_FOUND;
+        }
+        int from = rowOffsets.get(firstRow);
+        int to = rowOffsets.get(lastRow);
+        int text = Arrays.binarySearch(texts, prefix);
+        text = (text >= 0) ? text : -text - 1;
+        int matchedTexts = 0;
+        int found = Integer.MAX_VALUE;
+        for (; text < texts.length && texts[text].startsWith(prefix); text++) {
+            if (++matchedTexts > MAX_MATCHED_TEXTS) {
+                return null;
+            }
+            int[] textCells = cells[text];
+            int i = Arrays.binarySearch(textCells, from);
+            for (i = (i >= 0) ? i : -i - 1; i < textCells.length && textCells[i] < Math.min(to, found); i++) {
+                int column = columns.get(textCells[i]);
+                if (column >= startColumn && column < endColumn) {
+                    found = textCells[i];
+                    break;
+                }
+            }
+        }
+        return (found == Integer.MAX_VALUE) ?
+                TableCellAddress.NOT_FOUND :
+                TableCellAddress.of(getRow(found, firstRow, lastRow), columns.get(found));
+    }
+
+    /**
+     * Returns row of the cell by binary search of the row offsets.
+     */
+    private int getRow(int cell, int firstRow, int lastRow) {
+        int low = firstRow;
+        int high = lastRow - 1;
+        while (low < high) {  // finds the last row starting at or before the cell
+            int middle = (low + high + 1) >>> 1;
+            if (rowOffsets.get(middle) <= cell) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low;
+    }
+}
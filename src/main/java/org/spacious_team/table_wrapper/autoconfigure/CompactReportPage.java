@@ -0,0 +1,368 @@
+/*
+ * Table Wrapper Spring Boot Starter
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.autoconfigure;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spacious_team.table_wrapper.api.ReportPage;
+import org.spacious_team.table_wrapper.api.ReportPageRow;
+import org.spacious_team.table_wrapper.api.TableCell;
+import org.spacious_team.table_wrapper.api.TableCellAddress;
+import org.spacious_team.table_wrapper.csv.CsvReportPage;
+import org.spacious_team.table_wrapper.csv.CsvTableRow;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Immutable csv report page snapshot storing cell values in primitive arrays.
+ * Non-empty cells of all rows are stored sequentially, the row index holds each row's first cell offset,
+ * so empty rows and cells take no space. Cell value is stored as long number, double number
+ * or index of the deduplicated strings dictionary. Numbers are stored only if their string representation
+ * is restored exactly, so cell values are the same as of the source page.
+ * <p>
+ * Page is thread-safe, cell values are decoded to strings on each row access.
+ * Arrays are held by buffers, so the page can be read from memory-mapped snapshot file without copying.
+ * <p>
+ * Indexed page builds {@link CellValueIndex} lazily on the first text search,
+ * so the following table name and header lookups don't scan the cells.
+ */
+public final class CompactReportPage extends CsvReportPage {
+
+    private static final byte STRING = 0;
+    private static final byte LONG = 1;
+    private static final byte DOUBLE = 2;
+    /**
+     * Offset of the row's first cell, the last element is total cell count
+     */
+    private final IntBuffer rowOffsets;
+    private final IntBuffer columns;
+    private final ByteBuffer types;
+    /**
+     * Long value, double value bits or strings dictionary index
+     */
+    private final LongBuffer values;
+    private final String[] strings;
+    private final boolean isIndexed;
+    private volatile @Nullable CellValueIndex index = null;
+
+    private CompactReportPage(IntBuffer rowOffsets,
+                              IntBuffer columns,
+                              ByteBuffer types,
+                              LongBuffer values,
+                              String[] strings,
+                              boolean isIndexed) {
+        super(new String[0][]);
+        this.rowOffsets = rowOffsets;
+        this.columns = columns;
+        this.types = types;
+        this.values = values;
+        this.strings = strings;
+        this.isIndexed = isIndexed;
+    }
+
+    /**
+     * Returns page sharing cell values with this page and searching texts by lazily built index.
+     */
+    public CompactReportPage indexed() {
+        return isIndexed ? this : new CompactReportPage(rowOffsets, columns, types, values, strings, true);
+    }
+
+    /**
+     * Copies cell values of the page as strings.
+     */
+    public static CompactReportPage of(ReportPage reportPage) {
+        int rowCount = reportPage.getLastRowNum() + 1;
+        Builder builder = new Builder(rowCount);
+        for (int rowNum = 0; rowNum < rowCount; rowNum++) {
+            builder.startRow();
+            @Nullable ReportPageRow row = reportPage.getRow(rowNum);
+            if (row == null) {
+                continue;
+            }
+            for (int column = Math.max(0, row.getFirstCellNum()), last = row.getLastCellNum(); column <= last; column++) {
+                @Nullable TableCell cell = row.getCell(column);
+                @Nullable Object value = (cell == null) ? null : cell.getValue();
+                if (value != null) {
+                    builder.addCell(column, value.toString());
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    @Override
+    public TableCellAddress find(Object value, int startRow, int endRow, int startColumn, int endColumn) {
+        if (isIndexed && value instanceof String) {
+            String prefix = CellValueIndex.normalize(value);
+            @Nullable TableCellAddress address = CellValueIndex.isIndexed(prefix) ?
+                    getIndex().find(prefix, startRow, endRow, startColumn, endColumn) :
+                    null;
+            if (address != null) {
+                return address;
+            }
+        }
+        return find(startRow, endRow, startColumn, endColumn, MappedCsvReportPage.getValuePredicate(value));
+    }
+
+    @Override
+    public TableCellAddress find(int startRow, int endRow,
+                                 int startColumn, int endColumn,
+                                 Predicate<Object> cellValuePredicate) {
+        byte[] stringMatches = new byte[strings.length];  // predicate is tested once for each string
+        for (int rowNum = Math.max(0, startRow), last = Math.min(endRow, getRowCount()); rowNum < last; rowNum++) {
+            for (int i = rowOffsets.get(rowNum), end = rowOffsets.get(rowNum + 1); i < end; i++) {
+                int column = columns.get(i);
+                if (column >= startColumn && column < endColumn && matches(i, cellValuePredicate, stringMatches)) {
+                    return TableCellAddress.of(rowNum, column);
+                }
+            }
+        }
+        return TableCellAddress.NOT_FOUND;
+    }
+
+    private CellValueIndex getIndex() {
+        @Nullable CellValueIndex index = this.index;
+        if (index == null) {
+            synchronized (this) {
+                index = this.index;
+                if (index == null) {
+                    index = new CellValueIndex(rowOffsets, columns, types, values, strings, STRING);
+                    this.index = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * @param stringMatches cached predicate results for strings dictionary: 0 - not tested, 1 - true, 2 - false
+     */
+    private boolean matches(int cell, Predicate<Object> cellValuePredicate, byte[] stringMatches) {
+        if (types.get(cell) != STRING) {
+            return cellValuePredicate.test(getValue(cell));
+        }
+        int index = (int) values.get(cell);
+        if (stringMatches[index] == 0) {
+            stringMatches[index] = cellValuePredicate.test(strings[index]) ? (byte) 1 : (byte) 2;
+        }
+        return stringMatches[index] == 1;
+    }
+
+    @Override
+    public @Nullable CsvTableRow getRow(int i) {
+        if (i < 0 || i >= getRowCount()) {
+            return null;
+        }
+        int start = rowOffsets.get(i);
+        int end = rowOffsets.get(i + 1);
+        @Nullable String[] cells = new String[(start == end) ? 0 : columns.get(end - 1) + 1];
+        for (int cell = start; cell < end; cell++) {
+            cells[columns.get(cell)] = getValue(cell);
+        }
+        return CsvTableRow.of(cells, i);
+    }
+
+    @Override
+    public int getLastRowNum() {
+        return getRowCount() - 1;
+    }
+
+    private int getRowCount() {
+        return rowOffsets.limit() - 1;
+    }
+
+    private String getValue(int cell) {
+        long value = values.get(cell);
+        switch (types.get(cell)) {
+            case LONG:
+                return Long.toString(value);
+            case DOUBLE:
+                return RawCellValueFormatter.formatNumber(Double.longBitsToDouble(value));
+            default:
+                return strings[(int) value];
+        }
+    }
+
+    /**
+     * Writes page in big-endian binary format. Cell values are written first,
+     * so they are 8-byte aligned if the page is written at 8-byte aligned position.
+     */
+    void write(DataOutputStream out) throws IOException {
+        int cellCount = columns.limit();
+        out.writeInt(rowOffsets.limit());
+        out.writeInt(cellCount);
+        out.writeInt(strings.length);
+        out.writeInt(0);  // padding
+        for (int i = 0; i < cellCount; i++) {
+            out.writeLong(values.get(i));
+        }
+        for (int i = 0, cnt = rowOffsets.limit(); i < cnt; i++) {
+            out.writeInt(rowOffsets.get(i));
+        }
+        for (int i = 0; i < cellCount; i++) {
+            out.writeInt(columns.get(i));
+        }
+        for (int i = 0; i < cellCount; i++) {
+            out.writeByte(types.get(i));
+        }
+        for (String string : strings) {
+            byte[] bytes = string.getBytes(UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * Reads page written by {@link #write(DataOutputStream)}, arrays are not copied from the buffer.
+     *
+     * @param buffer big-endian buffer positioned at the page start, position is moved to the page end
+     * @throws RuntimeException if data is corrupted
+     */
+    static CompactReportPage read(ByteBuffer buffer) {
+        int rowOffsetCount = buffer.getInt();
+        int cellCount = buffer.getInt();
+        int stringCount = buffer.getInt();
+        buffer.getInt();  // padding
+        LongBuffer values = slice(buffer, Math.multiplyExact(cellCount, Long.BYTES)).asLongBuffer();
+        IntBuffer rowOffsets = slice(buffer, Math.multiplyExact(rowOffsetCount, Integer.BYTES)).asIntBuffer();
+        IntBuffer columns = slice(buffer, Math.multiplyExact(cellCount, Integer.BYTES)).asIntBuffer();
+        ByteBuffer types = slice(buffer, cellCount);
+        String[] strings = new String[stringCount];
+        for (int i = 0; i < stringCount; i++) {
+            byte[] bytes = new byte[buffer.getInt()];
+            buffer.get(bytes);
+            strings[i] = new String(bytes, UTF_8);
+        }
+        if (rowOffsetCount < 1 || rowOffsets.get(rowOffsetCount - 1) != cellCount) {
+            throw new IllegalArgumentException("Corrupted compact report page data");
+        }
+        return new CompactReportPage(rowOffsets, columns, types, values, strings, false);
+    }
+
+    private static ByteBuffer slice(ByteBuffer buffer, int length) {
+        ByteBuffer slice = buffer.slice();
+        slice.limit(length);
+        buffer.position(buffer.position() + length);
+        return slice;
+    }
+
+    /**
+     * Builds page row by row, cells of a row should be added in ascending column order.
+     */
+    static final class Builder {
+        private int[] rowOffsets;
+        private int rowCount = 0;
+        private int[] columns = new int[256];
+        private byte[] types = new byte[256];
+        private long[] values = new long[256];
+        private int cellCount = 0;
+        private final Map<String, Integer> stringIndexes = new HashMap<>();
+
+        Builder(int expectedRowCount) {
+            this.rowOffsets = new int[Math.max(expectedRowCount, 16) + 1];
+        }
+
+        /**
+         * Starts next row, skipped rows are started without cells.
+         */
+        void startRow() {
+            if (rowCount + 1 >= rowOffsets.length) {
+                rowOffsets = Arrays.copyOf(rowOffsets, rowOffsets.length * 2);
+            }
+            rowCount++;
+            rowOffsets[rowCount] = cellCount;
+        }
+
+        void addCell(int column, String value) {
+            if (cellCount == columns.length) {
+                int capacity = columns.length * 2;
+                columns = Arrays.copyOf(columns, capacity);
+                types = Arrays.copyOf(types, capacity);
+                values = Arrays.copyOf(values, capacity);
+            }
+            columns[cellCount] = column;
+            if (isCanonicalLong(value)) {
+                types[cellCount] = LONG;
+                values[cellCount] = Long.parseLong(value);
+            } else if (isCanonicalDouble(value)) {
+                types[cellCount] = DOUBLE;
+                values[cellCount] = Double.doubleToRawLongBits(Double.parseDouble(value));
+            } else {
+                types[cellCount] = STRING;
+                values[cellCount] = stringIndexes.computeIfAbsent(value, v -> stringIndexes.size());
+            }
+            cellCount++;
+            rowOffsets[rowCount] = cellCount;
+        }
+
+        CompactReportPage build() {
+            String[] strings = new String[stringIndexes.size()];
+            stringIndexes.forEach((value, index) -> strings[index] = value);
+            return new CompactReportPage(
+                    IntBuffer.wrap(Arrays.copyOf(rowOffsets, rowCount + 1)),
+                    IntBuffer.wrap(Arrays.copyOf(columns, cellCount)),
+                    ByteBuffer.wrap(Arrays.copyOf(types, cellCount)),
+                    LongBuffer.wrap(Arrays.copyOf(values, cellCount)),
+                    strings,
+                    false);
+        }
+
+        private static boolean isCanonicalLong(String value) {
+            int length = value.length();
+            int start = (length > 1 && value.charAt(0) == '-') ? 1 : 0;
+            if (length == start || length - start > 18 || (value.charAt(start) == '0' && length - start > 1)) {
+                return false;  // longer numbers may overflow, leading zeros are not restored
+            }
+            for (int i = start; i < length; i++) {
+                char c = value.charAt(i);
+                if (c < '0' || c > '9') {
+                    return false;
+                }
+            }
+            return !value.equals("-0");
+        }
+
+        private static boolean isCanonicalDouble(String value) {
+            int length = value.length();
+            if (length == 0 || length > 24 || value.indexOf('.') < 0) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                char c = value.charAt(i);
+                if ((c < '0' || c > '9') && c != '.' && c != '-') {
+                    return false;
+                }
+            }
+            try {
+                return RawCellValueFormatter.formatNumber(Double.parseDouble(value)).equals(value);
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        }
+    }
+}
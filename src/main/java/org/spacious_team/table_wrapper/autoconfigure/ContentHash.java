@@ -0,0 +1,82 @@
+/*
+ * Table Wrapper Spring Boot Starter
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.autoconfigure;
+
+import lombok.NoArgsConstructor;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Calculates SHA-256 hash of data. Cryptographic hash is used because cached objects may be shared
+ * by different clients uploading data, a crafted collision would substitute another client's data.
+ */
+@NoArgsConstructor(access = PRIVATE)
+final class ContentHash {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * @implSpec Reads data and resets stream to the current position, doesn't close InputStream
+     */
+    static BigInteger of(ByteArrayInputStream bais) {
+        bais.mark(bais.available());
+        MessageDigest digest = getMessageDigest();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int count;
+        while ((count = bais.read(buffer, 0, buffer.length)) > 0) {
+            digest.update(buffer, 0, count);
+        }
+        bais.reset();
+        return new BigInteger(1, digest.digest());
+    }
+
+    static BigInteger of(String text) {
+        return new BigInteger(1, getMessageDigest().digest(text.getBytes(UTF_8)));
+    }
+
+    static BigInteger of(Path path) throws IOException {
+        MessageDigest digest = getMessageDigest();
+        try (InputStream is = Files.newInputStream(path)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int count;
+            while ((count = is.read(buffer, 0, buffer.length)) > 0) {
+                digest.update(buffer, 0, count);
+            }
+        }
+        return new BigInteger(1, digest.digest());
+    }
+
+    private static MessageDigest getMessageDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);  // SHA-256 is supported by every Java platform
+        }
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Table Wrapper Spring Boot Starter
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.autoconfigure;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spacious_team.table_wrapper.api.ReportPage;
+import org.spacious_team.table_wrapper.autoconfigure.DefaultReportPageFactory.KnownFileExtension;
+import org.spacious_team.table_wrapper.autoconfigure.ReportPageCreationListener.Phase;
+import org.spacious_team.table_wrapper.autoconfigure.ReportPageCreationListener.SourceType;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * State of one ReportPage creation call, reports creation events to the listener.
+ */
+@RequiredArgsConstructor
+final class CreationContext {
+
+    private final ReportPageCreationListener listener;
+    @Getter
+    private final SourceType sourceType;
+    /**
+     * Resources of the created ReportPages, null if resources are not tracked
+     */
+    private final @Nullable List<AutoCloseable> resources;
+    private final long startNanos = System.nanoTime();
+    /**
+     * Current parsing attempt format
+     */
+    @Getter
+    @Setter
+    private @Nullable KnownFileExtension format = null;
+    @Getter
+    @Setter
+    private long inputSize = -1;
+    /**
+     * If true, immutable ReportPages not depending on mutable workbook object model should be created
+     */
+    @Getter
+    @Setter
+    private boolean snapshotRequired = false;
+    /**
+     * Memory reserved for the current parsing attempt
+     */
+    private MemoryBudget.@Nullable Reservation memoryReservation = null;
+
+    /**
+     * Registers resource to be released by the caller, resource is not tracked if tracking is disabled.
+     */
+    void registerResource(AutoCloseable resource) {
+        if (resources != null) {
+            resources.add(resource);
+        }
+    }
+
+    void phaseCompleted(Phase phase, long phaseStartNanos) {
+        if (listener != ReportPageCreationListener.NOOP) {
+            listener.onPhaseCompleted(sourceType, getFormatName(), phase, System.nanoTime() - phaseStartNanos);
+        }
+    }
+
+    void engineSelected(ParserEngine engine) {
+        if (listener != ReportPageCreationListener.NOOP) {
+            listener.onEngineSelected(sourceType, getFormatName(), engine, inputSize);
+        }
+    }
+
+    /**
+     * @param reservation reserved memory, null if memory is not reserved in time
+     */
+    void memoryReserved(MemoryBudget.@Nullable Reservation reservation,
+                        long bytes,
+                        int queueLength,
+                        long reservationStartNanos) {
+        releaseMemory();  // previous parsing attempt's memory
+        memoryReservation = reservation;
+        if (listener != ReportPageCreationListener.NOOP) {
+            long waitNanos = System.nanoTime() - reservationStartNanos;
+            listener.onMemoryReservation(sourceType, getFormatName(), bytes, queueLength, waitNanos, reservation != null);
+        }
+    }
+
+    /**
+     * Keeps memory reserved until the created ReportPages' resources are released if resources are tracked.
+     */
+    void retainMemory() {
+        MemoryBudget.@Nullable Reservation reservation = memoryReservation;
+        if (resources != null && reservation != null) {
+            resources.add(reservation);
+            memoryReservation = null;
+        }
+    }
+
+    /**
+     * Transfers reserved memory to the caller, it is not released by the context.
+     */
+    MemoryBudget.@Nullable Reservation takeMemoryReservation() {
+        MemoryBudget.@Nullable Reservation reservation = memoryReservation;
+        memoryReservation = null;
+        return reservation;
+    }
+
+    void releaseMemory() {
+        MemoryBudget.@Nullable Reservation reservation = memoryReservation;
+        memoryReservation = null;
+        if (reservation != null) {
+            reservation.close();
+        }
+    }
+
+    void created(Map<?, ReportPage> reportPages) {
+        if (listener != ReportPageCreationListener.NOOP) {
+            long rowCount = getRowCount(reportPages);
+            listener.onCreated(sourceType, getFormatName(), inputSize, rowCount, System.nanoTime() - startNanos);
+        }
+    }
+
+    void failed(Exception exception) {
+        if (listener != ReportPageCreationListener.NOOP) {
+            listener.onFailed(sourceType, getFormatName(), exception, System.nanoTime() - startNanos);
+        }
+    }
+
+    private String getFormatName() {
+        @Nullable KnownFileExtension format = this.format;
+        return (format == null) ? "unknown" : format.name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * @return total row count or -1 if the count is not known without full data reading
+     */
+    private static long getRowCount(Map<?, ReportPage> reportPages) {
+        Set<ReportPage> distinctPages = Collections.newSetFromMap(new IdentityHashMap<>());
+        distinctPages.addAll(reportPages.values());  // csv page is mapped by each requested sheet id
+        long rowCount = 0;
+        for (ReportPage reportPage : distinctPages) {
+            if (reportPage instanceof MappedCsvReportPage) {
+                return -1;  // lazily indexed
+            }
+            rowCount += reportPage.getLastRowNum() + 1;
+        }
+        return rowCount;
+    }
+}
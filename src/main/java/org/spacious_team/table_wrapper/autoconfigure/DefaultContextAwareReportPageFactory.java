@@ -21,16 +21,24 @@ package org.spacious_team.table_wrapper.autoconfigure;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spacious_team.table_wrapper.api.ReportPage;
 import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.support.BeanDefinitionBuilder;
 import org.springframework.beans.factory.support.BeanDefinitionRegistry;
 import org.springframework.context.ApplicationContext;
+import org.springframework.util.ClassUtils;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
 
+import static lombok.AccessLevel.NONE;
 import static org.springframework.beans.factory.config.BeanDefinition.SCOPE_PROTOTYPE;
 
 @Getter
@@ -39,6 +47,16 @@ public class DefaultContextAwareReportPageFactory extends DefaultReportPageFacto
 
     private final List<Class<? extends ReportPage>> registeredReportPageTypes = new CopyOnWriteArrayList<>();
     private final ApplicationContext context;
+    /**
+     * Argument types to ReportPage types having compatible constructor cache, in registration order
+     */
+    @Getter(NONE)
+    private final Map<List<Class<?>>, List<Class<? extends ReportPage>>> resolvedTypes = new ConcurrentHashMap<>();
+    /**
+     * Registered types for which {@link #resolvedTypes} are valid, registered types list may be modified by getter
+     */
+    @Getter(NONE)
+    private volatile List<Class<? extends ReportPage>> resolvedTypesSource = List.of();
 
     @Override
     public void registerBeanDefinition(Class<? extends ReportPage> clazz) {
@@ -62,21 +80,84 @@ public class DefaultContextAwareReportPageFactory extends DefaultReportPageFacto
         return (BeanDefinitionRegistry) factory;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote Registered types are tried in registration order, the next type is tried if the constructor fails.
+     * Types having constructor compatible with arguments are cached for argument types, so other types
+     * are not tried and arguments not matching any constructor fail without bean creation attempts.
+     */
     @Override
     public ReportPage create(Object... args) {
+        invalidateResolvedTypesIfRequired();
+        @Nullable List<Class<?>> argTypes = getArgumentTypes(args);
+        List<Class<? extends ReportPage>> types = (argTypes == null) ?
+                findReportPageTypes(args) :  // null argument type is unknown, not cached
+                resolvedTypes.computeIfAbsent(argTypes, key -> findReportPageTypes(args));
         @MonotonicNonNull Exception last = null;
-        for (Class<? extends ReportPage> clazz : registeredReportPageTypes) {
+        for (Class<? extends ReportPage> type : types) {
             try {
-                return context.getBean(clazz, args);
+                return context.getBean(type, args);
             } catch (Exception e) {
                 last = e;
             }
         }
-        String message = "Can't create ReportPage with arguments: " + List.of(args);
+        String message = "Can't create ReportPage with arguments: " + Arrays.asList(args);
         if (last == null) {
             throw new ReportPageInstantiationException(message);
         } else {
             throw new ReportPageInstantiationException(message, last);
         }
     }
+
+    /**
+     * Returns the number of argument types with cached ReportPage types.
+     */
+    int getResolvedTypesCount() {
+        return resolvedTypes.size();
+    }
+
+    private void invalidateResolvedTypesIfRequired() {
+        if (!resolvedTypesSource.equals(registeredReportPageTypes)) {
+            synchronized (resolvedTypes) {
+                resolvedTypes.clear();
+                resolvedTypesSource = List.copyOf(registeredReportPageTypes);
+            }
+        }
+    }
+
+    /**
+     * @return argument types or null if some argument is null
+     */
+    private static @Nullable List<Class<?>> getArgumentTypes(Object[] args) {
+        List<Class<?>> argTypes = new ArrayList<>(args.length);
+        for (@Nullable Object arg : args) {
+            if (arg == null) {
+                return null;
+            }
+            argTypes.add(arg.getClass());
+        }
+        return argTypes;
+    }
+
+    private List<Class<? extends ReportPage>> findReportPageTypes(Object[] args) {
+        return registeredReportPageTypes.stream()
+                .filter(clazz -> hasCompatibleConstructor(clazz, args))
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    private static boolean hasCompatibleConstructor(Class<?> clazz, Object[] args) {
+        return Arrays.stream(clazz.getDeclaredConstructors())
+                .filter(constructor -> constructor.getParameterCount() == args.length)
+                .anyMatch(constructor -> isCompatible(constructor.getParameterTypes(), args));
+    }
+
+    private static boolean isCompatible(Class<?>[] parameterTypes, Object[] args) {
+        for (int i = 0; i < args.length; i++) {
+            if (!ClassUtils.isAssignableValue(parameterTypes[i], args[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
@@ -18,17 +18,25 @@
 
 package org.spacious_team.table_wrapper.autoconfigure;
 
-
-import nl.fountain.xelem.excel.Worksheet;
+import com.univocity.parsers.csv.CsvParser;
+import lombok.Getter;
+import lombok.Setter;
 import nl.fountain.xelem.lex.ExcelReader;
+import org.apache.poi.hssf.eventusermodel.HSSFUserException;
 import org.apache.poi.hssf.usermodel.HSSFWorkbook;
-import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.poifs.filesystem.POIFSFileSystem;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spacious_team.table_wrapper.api.ReportPage;
 import org.spacious_team.table_wrapper.api.TableCell;
 import org.spacious_team.table_wrapper.api.TableCellAddress;
+import org.spacious_team.table_wrapper.autoconfigure.ReportPageCreationListener.Phase;
+import org.spacious_team.table_wrapper.autoconfigure.ReportPageCreationListener.SourceType;
 import org.spacious_team.table_wrapper.csv.CsvReportPage;
 import org.spacious_team.table_wrapper.excel.ExcelSheet;
 import org.spacious_team.table_wrapper.xml.XmlReportPage;
@@ -37,17 +45,39 @@ import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLStreamException;
 import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.StringReader;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.nio.file.StandardOpenOption.READ;
 import static java.util.Objects.requireNonNull;
-import static org.spacious_team.table_wrapper.autoconfigure.DefaultReportPageFactory.KnownFileExtension.XLS;
-import static org.spacious_team.table_wrapper.autoconfigure.DefaultReportPageFactory.KnownFileExtension.XLSX;
+import static org.spacious_team.table_wrapper.autoconfigure.DefaultReportPageFactory.KnownFileExtension.*;
+import static org.spacious_team.table_wrapper.autoconfigure.ParserEngine.AUTO;
+import static org.spacious_team.table_wrapper.autoconfigure.ParserEngine.DOM;
+import static org.spacious_team.table_wrapper.autoconfigure.ParserEngine.STREAMING;
 
 /**
  * Implements methods for quickly instantiating ReportPage implementations:
@@ -56,6 +86,145 @@ import static org.spacious_team.table_wrapper.autoconfigure.DefaultReportPageFac
  */
 public class DefaultReportPageFactory implements ReportPageFactory {
 
+    private static final XmlParserPool<ExcelReader> EXCEL_READERS = new XmlParserPool<>(ExcelReader::new);
+    private static final String EMPTY_XML_WORKBOOK =
+            "<?xml version=\"1.0\"?><Workbook xmlns=\"urn:schemas-microsoft-com:office:spreadsheet\"/>";
+    private static final List<SheetInfo> CSV_SHEETS = List.of(SheetInfo.of(0, ""));
+
+    @Getter
+    private final FormatDetectionStatistics formatDetectionStatistics = new FormatDetectionStatistics();
+    /**
+     * Parser engine for xls files, {@link ParserEngine#DOM} by default
+     */
+    @Getter
+    @Setter
+    private ParserEngine xlsEngine = DOM;
+    /**
+     * Parser engine for xlsx files, {@link ParserEngine#DOM} by default
+     */
+    @Getter
+    @Setter
+    private ParserEngine xlsxEngine = DOM;
+    /**
+     * Parser engine for SpreadsheetML (xml) files, {@link ParserEngine#DOM} by default
+     */
+    @Getter
+    @Setter
+    private ParserEngine xmlEngine = DOM;
+    /**
+     * Maximum xls data size in bytes parsed by {@link ParserEngine#DOM} if {@link ParserEngine#AUTO} engine is used,
+     * 32 MiB by default
+     */
+    @Getter
+    @Setter
+    private long xlsStreamingThreshold = 32 * 1024 * 1024;
+    /**
+     * Maximum xlsx data size in bytes parsed by {@link ParserEngine#DOM} if {@link ParserEngine#AUTO} engine is used,
+     * 8 MiB by default. Xlsx data is compressed, its object model is much larger than for xls data of the same size
+     */
+    @Getter
+    @Setter
+    private long xlsxStreamingThreshold = 8 * 1024 * 1024;
+    /**
+     * Maximum xml data size in bytes parsed by {@link ParserEngine#DOM} if {@link ParserEngine#AUTO} engine is used,
+     * 32 MiB by default
+     */
+    @Getter
+    @Setter
+    private long xmlStreamingThreshold = 32 * 1024 * 1024;
+    /**
+     * Cache of parsed Excel and Xml workbooks, disabled by default.
+     * ReportPages of cached workbooks are {@link CompactReportPage} snapshots with string cell values,
+     * because workbook object model can't be shared by threads
+     */
+    @Getter
+    @Setter
+    private @Nullable WorkbookCache workbookCache = null;
+    /**
+     * Cache of ReportPages created from InputStream data, disabled by default.
+     * Cached ReportPages are created by {@link ParserEngine#STREAMING} engine regardless of configured engines,
+     * so they are immutable snapshots which can be shared by threads
+     */
+    @Getter
+    @Setter
+    private @Nullable ReportPageCache reportPageCache = null;
+    /**
+     * Maximum size in bytes of InputStream data buffered in memory, larger data is spooled to a temporary file
+     * and parsed from it. 32 MiB by default
+     */
+    @Getter
+    @Setter
+    private int inMemoryThreshold = 32 * 1024 * 1024;
+    /**
+     * Number of the first InputStream data bytes used for data format detection, 8 KiB by default
+     */
+    @Getter
+    @Setter
+    private int formatDetectionWindowSize = FileFormatDetector.DEFAULT_WINDOW_SIZE;
+    /**
+     * If true, csv files are memory-mapped and decoded lazily by {@link MappedCsvReportPage}, false by default
+     */
+    @Getter
+    @Setter
+    private boolean memoryMappedCsv = false;
+    /**
+     * If true, created ReportPages are immutable {@link CompactReportPage} snapshots read by
+     * {@link ParserEngine#STREAMING} engine regardless of configured engines, false by default.
+     * Memory-mapped csv pages are not converted, their heap footprint is already small
+     */
+    @Getter
+    @Setter
+    private boolean compactReportPages = false;
+    /**
+     * If true, created ReportPages are {@link CompactReportPage} snapshots as for {@link #compactReportPages}
+     * option, which search texts by lazily built index. Speeds up creation of many tables from one ReportPage,
+     * false by default
+     */
+    @Getter
+    @Setter
+    private boolean indexedReportPages = false;
+    /**
+     * Persistent store of Excel and Xml files' sheet snapshots, disabled by default.
+     * Sheets read without row window are stored as {@link CompactReportPage} snapshots
+     * and are read back without parsing until the file is changed
+     */
+    @Getter
+    @Setter
+    private @Nullable ReportPageSnapshotStore snapshotStore = null;
+    /**
+     * Executor of {@code createAsync} methods, {@link ForkJoinPool#commonPool()} by default
+     */
+    @Getter
+    @Setter
+    private Executor asyncExecutor = ForkJoinPool.commonPool();
+    /**
+     * Executor of batch ReportPage creation tasks, {@link ForkJoinPool#commonPool()} by default
+     */
+    @Getter
+    @Setter
+    private Executor batchExecutor = ForkJoinPool.commonPool();
+    /**
+     * Maximum number of concurrently created ReportPages of one batch, number of processors by default
+     */
+    @Getter
+    @Setter
+    private int batchParallelism = Runtime.getRuntime().availableProcessors();
+    /**
+     * Receives ReportPage creation events, for example to record metrics
+     */
+    @Getter
+    @Setter
+    private ReportPageCreationListener creationListener = ReportPageCreationListener.NOOP;
+    /**
+     * Limits total estimated memory of concurrent {@link ParserEngine#DOM} parsings, disabled by default.
+     * Memory is reserved on workbook cache miss only, it is reserved until cached workbook eviction,
+     * until ReportPage handle is closed for {@code open} methods and until parsing completion for other methods.
+     * Workbook cache weight limit should leave room for parsings, cached workbooks are not evicted to reserve memory
+     */
+    @Getter
+    @Setter
+    private @Nullable MemoryBudget memoryBudget = null;
+
     @Override
     public ReportPage create(Path path, Integer sheetNumber) {
         return doCreate(path, sheetNumber);
@@ -66,29 +235,337 @@ public class DefaultReportPageFactory implements ReportPageFactory {
         return doCreate(path, sheetName);
     }
 
+    @Override
+    public Map<String, ReportPage> createAll(Path path) {
+        return toSheetNameMap(doCreate(path, SheetSelector::all));
+    }
+
+    @Override
+    public Map<Object, ReportPage> create(Path path, Collection<?> sheetIds) {
+        return doCreate(path, () -> SheetSelector.of(sheetIds));
+    }
+
+    @Override
+    public ReportPage create(Path path, Integer sheetNumber, RowWindow window) {
+        return doCreate(path, sheetNumber, window, null);
+    }
+
+    @Override
+    public ReportPage create(Path path, String sheetName, RowWindow window) {
+        return doCreate(path, sheetName, window, null);
+    }
+
     protected ReportPage doCreate(Path path, Object sheetId) {
+        return doCreate(path, sheetId, null, null);
+    }
+
+    /**
+     * @param window    rows to read, null for all rows
+     * @param resources receives resources of the created ReportPage, null if resources are not tracked
+     */
+    private ReportPage doCreate(Path path,
+                                Object sheetId,
+                                @Nullable RowWindow window,
+                                @Nullable List<AutoCloseable> resources) {
+        KnownFileExtension extension = getExtension(path);
+        if (extension != CSV) {
+            String fileType = (extension == XML) ? "Xml" : "Excel";
+            try {
+                Assert.notNull(sheetId, () -> fileType + " file's sheet number or name expected");
+            } catch (Exception e) {
+                throw new ReportPageInstantiationException("Can't open path: " + path, e);
+            }
+        }
+        @Nullable ReportPageSnapshotStore store = this.snapshotStore;
+        if (store != null && window == null && extension != CSV) {
+            return getSnapshot(store, path, sheetId);
+        }
+        Map<Object, ReportPage> reportPages =
+                doCreate(path, () -> SheetSelector.of(sheetId, window), resources, isCompact());
+        return reportPages.values().iterator().next();
+    }
+
+    private CompactReportPage getSnapshot(ReportPageSnapshotStore store, Path path, Object sheetId) {
+        try {
+            CompactReportPage reportPage = store.get(path, sheetId, () -> {
+                Map<Object, ReportPage> reportPages = doCreate(path, () -> SheetSelector.of(sheetId), null, true);
+                return (CompactReportPage) reportPages.values().iterator().next();
+            });
+            return indexedReportPages ? reportPage.indexed() : reportPage;
+        } catch (ReportPageInstantiationException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ReportPageInstantiationException("Can't open path: " + path, e);
+        }
+    }
+
+    private Map<Object, ReportPage> doCreate(Path path, Supplier<SheetSelector> selectorFactory) {
+        return doCreate(path, selectorFactory, null, isCompact());
+    }
+
+    /**
+     * @param resources receives resources of the created ReportPages, null if resources are not tracked
+     * @param isCompact if true, ReportPages are converted to {@link CompactReportPage} snapshots
+     */
+    private Map<Object, ReportPage> doCreate(Path path,
+                                             Supplier<SheetSelector> selectorFactory,
+                                             @Nullable List<AutoCloseable> resources,
+                                             boolean isCompact) {
+        CreationContext context = new CreationContext(creationListener, SourceType.PATH, resources);
+        context.setSnapshotRequired(isCompact);
         try {
-            InputStream is;
             KnownFileExtension extension = KnownFileExtension.valueOf(path);
-            switch (extension) {
-                case XLS:
-                case XLSX:
-                    Assert.notNull(sheetId, "Excel file's sheet number or name expected");
-                    is = openForRead(path);
-                    Sheet sheet = getExcelSheet(is, sheetId, extension);
-                    return new ExcelSheet(sheet);
-                case XML:
-                    Assert.notNull(sheetId, "Xml file's sheet number or name expected");
-                    is = openForRead(path);
-                    Worksheet worksheet = getXmlSheet(is, sheetId);
-                    return new XmlReportPage(worksheet);
-                case CSV:
-                    return new CsvReportPage(path);
+            context.setFormat(extension);
+            context.setInputSize(Files.size(path));
+            SheetSelector selector = selectorFactory.get();
+            Map<Object, ReportPage> reportPages;
+            if (extension == CSV) {
+                long start = System.nanoTime();
+                CsvReportPage reportPage = getCsvReportPage(path, memoryMappedCsv, selector.getRowWindow());
+                if (reportPage instanceof MappedCsvReportPage) {
+                    context.registerResource((MappedCsvReportPage) reportPage);
+                }
+                context.phaseCompleted(Phase.WORKBOOK_PARSING, start);
+                reportPages = selector.toMap(reportPage);
+            } else {
+                selector.checkSheetIdTypes();
+                List<SheetPage> pages = createReportPages(path, extension, selector, context);
+                reportPages = selector.toMap(pages);
+            }
+            if (isCompact) {
+                reportPages = toCompactReportPages(reportPages, context);
             }
+            context.retainMemory();
+            context.created(reportPages);
+            return reportPages;
+        } catch (MemoryBudgetExhaustedException e) {
+            context.failed(e);
+            throw e;
         } catch (Exception e) {
+            context.failed(e);
             throw new ReportPageInstantiationException("Can't open path: " + path, e);
+        } finally {
+            context.releaseMemory();
+        }
+    }
+
+    private static KnownFileExtension getExtension(Path path) {
+        try {
+            return KnownFileExtension.valueOf(path);
+        } catch (Exception e) {
+            throw new ReportPageInstantiationException("Can't open file (unknown file extension): " + path, e);
+        }
+    }
+
+    /**
+     * @param path file or InputStream data spooled to temporary file
+     */
+    private List<SheetPage> createReportPages(Path path,
+                                              KnownFileExtension format,
+                                              SheetSelector selector,
+                                              CreationContext context) throws Exception {
+        // temporary file is unique, workbook is not cached
+        @Nullable WorkbookCache cache = (context.getSourceType() == SourceType.PATH) ? this.workbookCache : null;
+        long start = System.nanoTime();
+        List<SheetPage> pages;
+        switch (format) {
+            case XLS:
+            case XLSX:
+                @Nullable Workbook workbook = isStreaming(format, selector, context) ? null :
+                        loadWorkbook(cache, path, format, context, () -> getExcelWorkbook(path, format));
+                if (workbook == null) {
+                    context.engineSelected(STREAMING);
+                    pages = (format == XLS) ?
+                            getStreamingXlsReportPages(path, selector) :
+                            getStreamingXlsxReportPages(path, selector);
+                    context.phaseCompleted(Phase.WORKBOOK_PARSING, start);
+                    return pages;
+                }
+                context.engineSelected(DOM);
+                if (cache == null) {
+                    context.registerResource(workbook);  // cached workbook is shared
+                }
+                context.phaseCompleted(Phase.WORKBOOK_PARSING, start);
+                start = System.nanoTime();
+                pages = (cache == null) ?
+                        getExcelReportPages(workbook, selector) :
+                        getSnapshots(workbook, () -> getExcelReportPages(workbook, selector));
+                break;
+            case XML:
+                nl.fountain.xelem.excel.@Nullable Workbook xmlWorkbook = isStreaming(format, selector, context) ? null :
+                        loadWorkbook(cache, path, format, context, () -> {
+                            try (InputStream is = openForRead(path)) {
+                                return getXmlWorkbook(is);
+                            }
+                        });
+                if (xmlWorkbook == null) {
+                    context.engineSelected(STREAMING);
+                    pages = getStreamingXmlReportPages(path, selector);
+                    context.phaseCompleted(Phase.WORKBOOK_PARSING, start);
+                    return pages;
+                }
+                context.engineSelected(DOM);
+                context.phaseCompleted(Phase.WORKBOOK_PARSING, start);
+                start = System.nanoTime();
+                pages = (cache == null) ?
+                        getXmlReportPages(xmlWorkbook, selector) :
+                        getSnapshots(xmlWorkbook, () -> getXmlReportPages(xmlWorkbook, selector));
+                break;
+            default:
+                throw new IllegalArgumentException("Unexpected workbook format: " + format);
+        }
+        context.phaseCompleted(Phase.SHEET_LOOKUP, start);
+        return pages;
+    }
+
+    /**
+     * Memory for DOM engine is reserved later, on workbook loading.
+     *
+     * @implNote Row window and snapshots are read by streaming parsers only,
+     * DOM parsers always read whole workbook and wrap its mutable object model
+     */
+    private boolean isStreaming(KnownFileExtension format, SheetSelector selector, CreationContext context) {
+        boolean isStreamingRequired = selector.getRowWindow() != null || context.isSnapshotRequired();
+        ParserEngine engine = isStreamingRequired ? STREAMING : getEngine(format);
+        if (engine == AUTO) {
+            long size = context.getInputSize();
+            engine = (size >= 0 && size <= getStreamingThreshold(format)) ? DOM : STREAMING;
+        }
+        return engine == STREAMING;
+    }
+
+    /**
+     * @return false if memory is not reserved in time and streaming engine should be used
+     * @throws MemoryBudgetExhaustedException if memory is not reserved in time and streaming is not allowed
+     */
+    private boolean reserveMemory(KnownFileExtension format, CreationContext context) {
+        @Nullable MemoryBudget budget = this.memoryBudget;
+        if (budget == null) {
+            return true;
+        }
+        long bytes = estimateDomMemory(format, context.getInputSize());
+        int queueLength = budget.getQueueLength();
+        long start = System.nanoTime();
+        MemoryBudget.@Nullable Reservation reservation;
+        try {
+            reservation = budget.reserve(bytes);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ReportPageInstantiationException("Interrupted while waiting for memory reservation", e);
+        }
+        context.memoryReserved(reservation, bytes, queueLength, start);
+        if (reservation != null) {
+            return true;
+        } else if (budget.getExhaustionPolicy() == MemoryBudget.ExhaustionPolicy.STREAMING) {
+            return false;
+        }
+        throw new MemoryBudgetExhaustedException("Memory budget of " + budget.getMaxBytes() +
+                " bytes is exhausted, can't reserve " + bytes + " bytes for " + format + " parsing in " +
+                budget.getMaxWait());
+    }
+
+    /**
+     * @param inputSize source data size in bytes, negative if not known
+     * @implNote Workbook object model takes several times more heap than its source data,
+     * xlsx data is compressed in addition
+     */
+    private long estimateDomMemory(KnownFileExtension format, long inputSize) {
+        if (inputSize < 0) {
+            return getStreamingThreshold(format);
+        }
+        int factor = (format == XLSX) ? 50 : 10;
+        return (inputSize > Long.MAX_VALUE / factor) ? Long.MAX_VALUE : inputSize * factor;
+    }
+
+    private long getStreamingThreshold(KnownFileExtension format) {
+        switch (format) {
+            case XLS:
+                return xlsStreamingThreshold;
+            case XLSX:
+                return xlsxStreamingThreshold;
+            case XML:
+                return xmlStreamingThreshold;
+        }
+        return Long.MAX_VALUE;
+    }
+
+    private ParserEngine getEngine(KnownFileExtension format) {
+        switch (format) {
+            case XLS:
+                return xlsEngine;
+            case XLSX:
+                return xlsxEngine;
+            case XML:
+                return xmlEngine;
+        }
+        return DOM;
+    }
+
+    /**
+     * Returns cached workbook or reserves memory and loads it.
+     * Memory of the cached workbook is reserved until the workbook is evicted from cache.
+     *
+     * @return null if memory is not reserved in time and streaming engine should be used
+     */
+    private <T> @Nullable T loadWorkbook(@Nullable WorkbookCache cache,
+                                         Path path,
+                                         KnownFileExtension format,
+                                         CreationContext context,
+                                         Callable<T> loader) throws Exception {
+        Callable<T> reservingLoader = reservingMemory(format, context, loader);
+        try {
+            return (cache == null) ?
+                    reservingLoader.call() :
+                    cache.get(WorkbookCache.Key.of(path, format), reservingLoader, context::takeMemoryReservation);
+        } catch (MemoryNotReservedException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns cached workbook or reserves memory and loads it.
+     * Memory of the cached workbook is reserved until the workbook is evicted from cache.
+     *
+     * @return null if memory is not reserved in time and streaming engine should be used
+     * @implSpec Reads stream to calculate content hash and resets it if cache is enabled
+     */
+    private <T> @Nullable T loadWorkbook(@Nullable WorkbookCache cache,
+                                         ByteArrayInputStream bais,
+                                         KnownFileExtension format,
+                                         CreationContext context,
+                                         Callable<T> loader) throws Exception {
+        Callable<T> reservingLoader = reservingMemory(format, context, loader);
+        try {
+            return (cache == null) ?
+                    reservingLoader.call() :
+                    cache.get(WorkbookCache.Key.of(bais, format), reservingLoader, context::takeMemoryReservation);
+        } catch (MemoryNotReservedException e) {
+            return null;
+        }
+    }
+
+    private <T> Callable<T> reservingMemory(KnownFileExtension format, CreationContext context, Callable<T> loader) {
+        return () -> {
+            if (!reserveMemory(format, context)) {
+                throw new MemoryNotReservedException();
+            }
+            return loader.call();
+        };
+    }
+
+    /**
+     * Copies sheets of the cached workbook. Workbook object model is not thread-safe,
+     * so it is accessed by one thread at a time and is not exposed to the callers.
+     */
+    private static List<SheetPage> getSnapshots(Object cachedWorkbook, Supplier<List<SheetPage>> pagesFactory) {
+        synchronized (cachedWorkbook) {
+            List<SheetPage> snapshots = new ArrayList<>();
+            for (SheetPage page : pagesFactory.get()) {
+                CompactReportPage snapshot = CompactReportPage.of(page.getReportPage());
+                snapshots.add(new SheetPage(page.getSheetIndex(), page.getSheetName(), snapshot));
+            }
+            return snapshots;
         }
-        throw new ReportPageInstantiationException("Can't open file (unknown file extension): " + path);
     }
 
     /**
@@ -98,23 +575,74 @@ public class DefaultReportPageFactory implements ReportPageFactory {
         return Files.newInputStream(path, READ);
     }
 
+    private static List<SheetPage> getStreamingXlsReportPages(Path path, SheetSelector selector)
+            throws IOException, HSSFUserException {
+        try (POIFSFileSystem fs = new POIFSFileSystem(path.toFile(), true)) {
+            return XlsStreamingReader.read(fs, selector);
+        }
+    }
+
+    /**
+     * @implNote Closes InputStream
+     */
+    private static List<SheetPage> getStreamingXlsReportPages(InputStream is, SheetSelector selector)
+            throws IOException, HSSFUserException {
+        try (POIFSFileSystem fs = new POIFSFileSystem(is)) {  // constructor closes InputStream
+            return XlsStreamingReader.read(fs, selector);
+        }
+    }
+
+    private static List<SheetPage> getStreamingXlsxReportPages(Path path, SheetSelector selector)
+            throws IOException, OpenXML4JException, SAXException, ParserConfigurationException {
+        OPCPackage pkg = OPCPackage.open(path.toFile(), PackageAccess.READ);
+        try {
+            return XlsxStreamingReader.read(pkg, selector);
+        } finally {
+            pkg.revert();  // closes read only package
+        }
+    }
+
     /**
      * @implNote Closes InputStream
      */
-    private static Sheet getExcelSheet(InputStream is, Object sheetId, KnownFileExtension extension) throws IOException {
-        Workbook workbook = getExcelWorkbook(is, extension);
-        if (sheetId instanceof Integer) {
-            Sheet sheet = workbook.getSheetAt((Integer) sheetId);
-            Assert.notNull(sheet, () -> "Excel sheet not found: " + sheetId);
-            return sheet;
-        } else if (sheetId instanceof CharSequence) {
-            String sheetName = String.valueOf(sheetId);
-            Sheet sheet = workbook.getSheet(sheetName);
-            Assert.notNull(sheet, () -> "Excel sheet not found: " + sheetId);
-            return sheet;
+    private static List<SheetPage> getStreamingXlsxReportPages(InputStream is, SheetSelector selector)
+            throws IOException, OpenXML4JException, SAXException, ParserConfigurationException {
+        OPCPackage pkg = OPCPackage.open(is);
+        try {
+            return XlsxStreamingReader.read(pkg, selector);
+        } finally {
+            pkg.revert();
+            is.close();
+        }
+    }
+
+    private static List<SheetPage> getExcelReportPages(Workbook workbook, SheetSelector selector) {
+        List<SheetPage> pages = new ArrayList<>();
+        for (int i = 0, cnt = workbook.getNumberOfSheets(); i < cnt && !selector.isCompleted(); i++) {
+            String sheetName = workbook.getSheetName(i);
+            if (selector.select(i, sheetName)) {
+                pages.add(new SheetPage(i, sheetName, new ExcelSheet(workbook.getSheetAt(i))));
+            }
+        }
+        return pages;
+    }
+
+    private static Workbook getExcelWorkbook(Path path, KnownFileExtension extension)
+            throws IOException, InvalidFormatException {
+        if (extension == XLS) {
+            // Workbook stream is read from the file, the whole file is not buffered in memory.
+            // Nodes are not preserved, so the file is not used by workbook and is closed at once
+            try (POIFSFileSystem fs = new POIFSFileSystem(path.toFile(), true)) {
+                return new HSSFWorkbook(fs.getRoot(), false);
+            }
+        }
+        // Zip entries are accessed randomly from the file, the whole package is not buffered in memory
+        OPCPackage pkg = OPCPackage.open(path.toFile(), PackageAccess.READ);
+        try {
+            return new XSSFWorkbook(pkg);  // constructor reads workbook parts
+        } finally {
+            pkg.revert();  // closes read only package
         }
-        String sheetIdType = sheetId.getClass().getSimpleName();
-        throw new ReportPageInstantiationException("Unexpected Excel Sheet identifier type:" + sheetIdType);
     }
 
     /**
@@ -128,30 +656,57 @@ public class DefaultReportPageFactory implements ReportPageFactory {
         }
     }
 
-    private static Worksheet getXmlSheet(InputStream is, Object sheetId)
-            throws ParserConfigurationException, IOException, SAXException {
-        nl.fountain.xelem.excel.Workbook workbook = getXmlWorkbook(is);
-        if (sheetId instanceof Integer) {
-            Worksheet worksheet = workbook.getWorksheetAt((Integer) sheetId);
-            Assert.notNull(worksheet, () -> "Xml sheet not found: " + sheetId);
-            return worksheet;
-        } else if (sheetId instanceof CharSequence) {
-            String sheetName = String.valueOf(sheetId);
-            Worksheet worksheet = workbook.getWorksheet(sheetName);
-            Assert.notNull(worksheet, () -> "Xml sheet not found: " + sheetId);
-            return worksheet;
+    private static List<SheetPage> getStreamingXmlReportPages(Path path, SheetSelector selector)
+            throws IOException, XMLStreamException {
+        try (InputStream is = openForRead(path)) {
+            return getStreamingXmlReportPages(is, selector);
+        }
+    }
+
+    /**
+     * @implSpec Does not close InputStream
+     */
+    private static List<SheetPage> getStreamingXmlReportPages(InputStream is, SheetSelector selector)
+            throws IOException, XMLStreamException {
+        return XmlStreamingReader.read(skipNewLines(is), selector);  // xml declaration should be the first
+    }
+
+    private static List<SheetPage> getXmlReportPages(nl.fountain.xelem.excel.Workbook workbook,
+                                                     SheetSelector selector) {
+        List<?> sheetNames = workbook.getSheetNames();
+        List<SheetPage> pages = new ArrayList<>();
+        for (int i = 0, cnt = sheetNames.size(); i < cnt && !selector.isCompleted(); i++) {
+            String sheetName = String.valueOf(sheetNames.get(i));
+            if (selector.select(i, sheetName)) {
+                pages.add(new SheetPage(i, sheetName, new XmlReportPage(workbook.getWorksheetAt(i))));
+            }
         }
-        String sheetIdType = sheetId.getClass().getSimpleName();
-        throw new ReportPageInstantiationException("Unexpected Excel Sheet identifier type:" + sheetIdType);
+        return pages;
     }
 
     private static nl.fountain.xelem.excel.Workbook getXmlWorkbook(InputStream is)
             throws ParserConfigurationException, SAXException, IOException {
-        ExcelReader reader = new ExcelReader();
-        is = skipNewLines(is); // required by ExcelReader
-        InputSource source = new InputSource(is);
-        return reader.getWorkbook(source);
+        ExcelReader reader = EXCEL_READERS.borrow();
+        try {
+            is = skipNewLines(is); // required by ExcelReader
+            InputSource source = new InputSource(is);
+            return reader.getWorkbook(source);
+        } finally {
+            releaseExcelReader(reader);
+        }
+    }
 
+    /**
+     * Parses empty workbook by the reader before returning it to the pool, so pooled reader doesn't reference
+     * the last parsed workbook and is reset after parsing failure. Reader failed to parse empty workbook is dropped.
+     */
+    private static void releaseExcelReader(ExcelReader reader) {
+        try {
+            reader.getWorkbook(new InputSource(new StringReader(EMPTY_XML_WORKBOOK)));
+            EXCEL_READERS.release(reader);
+        } catch (Exception ignore) {
+            // reader in unknown state is not reused
+        }
     }
 
     private static InputStream skipNewLines(InputStream is) throws IOException {
@@ -175,40 +730,503 @@ public class DefaultReportPageFactory implements ReportPageFactory {
         return doCreate(is, sheetName);
     }
 
+    @Override
+    public Map<String, ReportPage> createAll(InputStream is) {
+        return toSheetNameMap(doCreate(is, SheetSelector::all));
+    }
+
+    @Override
+    public Map<Object, ReportPage> create(InputStream is, Collection<?> sheetIds) {
+        return doCreate(is, () -> SheetSelector.of(sheetIds));
+    }
+
+    @Override
+    public ReportPage create(InputStream is, Integer sheetNumber, RowWindow window) {
+        return doCreate(is, sheetNumber, window, null);
+    }
+
+    @Override
+    public ReportPage create(InputStream is, String sheetName, RowWindow window) {
+        return doCreate(is, sheetName, window, null);
+    }
+
     protected ReportPage doCreate(InputStream is, Object sheetId) {
-        try {
-            ByteArrayInputStream bais = convertToByteArrayInputStream(is);
-            // try Excel file
-            for (KnownFileExtension extension : new KnownFileExtension[]{XLS, XLSX}) {
+        return doCreate(is, sheetId, null, null);
+    }
+
+    /**
+     * @param window    rows to read, null for all rows
+     * @param resources receives resources of the created ReportPage, null if resources are not tracked
+     */
+    private ReportPage doCreate(InputStream is,
+                                Object sheetId,
+                                @Nullable RowWindow window,
+                                @Nullable List<AutoCloseable> resources) {
+        Map<Object, ReportPage> reportPages = doCreate(is, () -> SheetSelector.of(sheetId, window), resources);
+        return reportPages.values().iterator().next();
+    }
+
+    private Map<Object, ReportPage> doCreate(InputStream is, Supplier<SheetSelector> selectorFactory) {
+        return doCreate(is, selectorFactory, null);
+    }
+
+    /**
+     * @param selectorFactory creates new selector for each parsing attempt
+     * @param resources       receives resources of the created ReportPages, null if resources are not tracked
+     */
+    private Map<Object, ReportPage> doCreate(InputStream is,
+                                             Supplier<SheetSelector> selectorFactory,
+                                             @Nullable List<AutoCloseable> resources) {
+        CreationContext context = new CreationContext(creationListener, SourceType.INPUT_STREAM, resources);
+        context.setSnapshotRequired(isCompact());
+        long start = System.nanoTime();
+        try (SpooledInput input = SpooledInput.of(is, inMemoryThreshold)) {
+            context.phaseCompleted(Phase.BUFFERING, start);
+            context.setInputSize(input.getSize());
+            @Nullable ReportPageCache cache = this.reportPageCache;
+            Map<Object, ReportPage> reportPages = (cache == null) ?
+                    createReportPages(input, selectorFactory, context) :
+                    getCachedReportPages(cache, input, selectorFactory, context);
+            context.retainMemory();
+            context.created(reportPages);
+            return reportPages;
+        } catch (MemoryBudgetExhaustedException e) {
+            context.failed(e);
+            throw e;
+        } catch (Exception e) {
+            context.failed(e);
+            throw new ReportPageInstantiationException("Unexpected data format", e);
+        } finally {
+            context.releaseMemory();
+        }
+    }
+
+    /**
+     * @return ReportPage snapshots shared with other callers
+     */
+    private Map<Object, ReportPage> getCachedReportPages(ReportPageCache cache,
+                                                         SpooledInput input,
+                                                         Supplier<SheetSelector> selectorFactory,
+                                                         CreationContext context) throws Exception {
+        long start = System.nanoTime();
+        ReportPageCache.Key key = ReportPageCache.Key.of(input, selectorFactory.get());
+        context.phaseCompleted(Phase.CONTENT_HASHING, start);
+        context.setSnapshotRequired(true);
+        ReportPageCache.Entry entry = cache.get(key, () -> {
+            Map<Object, ReportPage> reportPages = createReportPages(input, selectorFactory, context);
+            return new ReportPageCache.Entry(context.getFormat(), reportPages);
+        });
+        context.setFormat(entry.getFormat());
+        return new LinkedHashMap<>(entry.getReportPages());
+    }
+
+    private Map<Object, ReportPage> createReportPages(SpooledInput input,
+                                                      Supplier<SheetSelector> selectorFactory,
+                                                      CreationContext context) throws Exception {
+        Map<Object, ReportPage> reportPages = detectFormatAndCreateReportPages(input, selectorFactory, context);
+        return isCompact() ? toCompactReportPages(reportPages, context) : reportPages;
+    }
+
+    private Map<Object, ReportPage> detectFormatAndCreateReportPages(SpooledInput input,
+                                                                     Supplier<SheetSelector> selectorFactory,
+                                                                     CreationContext context) throws Exception {
+        long start = System.nanoTime();
+        @Nullable KnownFileExtension format = input.detectFormat(formatDetectionWindowSize);
+        context.phaseCompleted(Phase.FORMAT_DETECTION, start);
+        if (format != null) {
+            try {
+                Map<Object, ReportPage> reportPages = createReportPages(input, format, selectorFactory.get(), context);
+                formatDetectionStatistics.registerDetection();
+                return reportPages;
+            } catch (MemoryBudgetExhaustedException e) {
+                throw e;
+            } catch (Exception e) {
+                if (format == CSV) {
+                    throw e;  // all other formats are not expected for data without magic bytes
+                }
+                input.reset();
+            }
+        }
+        formatDetectionStatistics.registerFallback();
+        return createReportPagesByTrialAndError(input, selectorFactory, format, context);
+    }
+
+    /**
+     * @throws IllegalArgumentException if some requested sheet is not found
+     */
+    private Map<Object, ReportPage> createReportPages(SpooledInput input,
+                                                      KnownFileExtension format,
+                                                      SheetSelector selector,
+                                                      CreationContext context) throws Exception {
+        context.setFormat(format);
+        if (!input.isSpooled()) {
+            return createReportPages(input.getBytes(), format, selector, context);
+        }
+        Path file = input.getFile();
+        if (format == CSV) {
+            long start = System.nanoTime();
+            CsvReportPage reportPage = getCsvReportPage(file, selector.getRowWindow());
+            context.phaseCompleted(Phase.WORKBOOK_PARSING, start);
+            return selector.toMap(reportPage);
+        }
+        selector.checkSheetIdTypes();
+        List<SheetPage> pages = createReportPages(file, format, selector, context);
+        return selector.toMap(pages);
+    }
+
+    /**
+     * @throws IllegalArgumentException if some requested sheet is not found
+     */
+    private Map<Object, ReportPage> createReportPages(ByteArrayInputStream bais,
+                                                      KnownFileExtension format,
+                                                      SheetSelector selector,
+                                                      CreationContext context) throws Exception {
+        long start = System.nanoTime();
+        if (format == CSV) {
+            CsvReportPage reportPage = getCsvReportPage(bais, selector.getRowWindow());
+            context.phaseCompleted(Phase.WORKBOOK_PARSING, start);
+            return selector.toMap(reportPage);
+        }
+        selector.checkSheetIdTypes();
+        @Nullable WorkbookCache cache = this.workbookCache;
+        List<SheetPage> pages;
+        switch (format) {
+            case XLS:
+            case XLSX:
+                @Nullable Workbook workbook = isStreaming(format, selector, context) ? null :
+                        loadWorkbook(cache, bais, format, context, () -> getExcelWorkbook(bais, format));
+                if (workbook == null) {
+                    context.engineSelected(STREAMING);
+                    pages = (format == XLS) ?
+                            getStreamingXlsReportPages(bais, selector) :
+                            getStreamingXlsxReportPages(bais, selector);
+                    context.phaseCompleted(Phase.WORKBOOK_PARSING, start);
+                    return selector.toMap(pages);
+                }
+                context.engineSelected(DOM);
+                if (cache == null) {
+                    context.registerResource(workbook);  // cached workbook is shared
+                }
+                context.phaseCompleted(Phase.WORKBOOK_PARSING, start);
+                start = System.nanoTime();
+                pages = (cache == null) ?
+                        getExcelReportPages(workbook, selector) :
+                        getSnapshots(workbook, () -> getExcelReportPages(workbook, selector));
+                break;
+            case XML:
+                nl.fountain.xelem.excel.@Nullable Workbook xmlWorkbook = isStreaming(format, selector, context) ? null :
+                        loadWorkbook(cache, bais, format, context, () -> getXmlWorkbook(bais));
+                if (xmlWorkbook == null) {
+                    context.engineSelected(STREAMING);
+                    pages = getStreamingXmlReportPages(bais, selector);
+                    context.phaseCompleted(Phase.WORKBOOK_PARSING, start);
+                    return selector.toMap(pages);
+                }
+                context.engineSelected(DOM);
+                context.phaseCompleted(Phase.WORKBOOK_PARSING, start);
+                start = System.nanoTime();
+                pages = (cache == null) ?
+                        getXmlReportPages(xmlWorkbook, selector) :
+                        getSnapshots(xmlWorkbook, () -> getXmlReportPages(xmlWorkbook, selector));
+                break;
+            default:
+                throw new IllegalArgumentException("Unexpected format: " + format);
+        }
+        context.phaseCompleted(Phase.SHEET_LOOKUP, start);
+        return selector.toMap(pages);
+    }
+
+    /**
+     * Tries all known formats one by one.
+     *
+     * @param skipFormat already tried format, may be null
+     */
+    private Map<Object, ReportPage> createReportPagesByTrialAndError(SpooledInput input,
+                                                                     Supplier<SheetSelector> selectorFactory,
+                                                                     @Nullable KnownFileExtension skipFormat,
+                                                                     CreationContext context)
+            throws Exception {
+        for (KnownFileExtension format : new KnownFileExtension[]{XLS, XLSX, XML}) {
+            if (format != skipFormat) {
                 try {
-                    Sheet sheet = getExcelSheet(bais, sheetId, extension);
-                    return new ExcelSheet(sheet);
+                    return createReportPages(input, format, selectorFactory.get(), context);
+                } catch (MemoryBudgetExhaustedException e) {
+                    throw e;
                 } catch (Exception ignore) {
-                    bais.reset();
+                    input.reset();
                 }
             }
-            // try Xml file
-            try {
-                Worksheet sheet = getXmlSheet(bais, sheetId);
-                return new XmlReportPage(sheet);
-            } catch (Exception ignore) {
-                bais.reset();
+        }
+        return createReportPages(input, CSV, selectorFactory.get(), context);
+    }
+
+    /**
+     * @param window rows to read, null for all rows
+     */
+    private static CsvReportPage getCsvReportPage(Path path,
+                                                  boolean isMemoryMapped,
+                                                  @Nullable RowWindow window) throws IOException {
+        if (window != null && isMemoryMapped) {
+            try (MappedCsvReportPage reportPage = new MappedCsvReportPage(path)) {
+                return reportPage.getWindow(window);  // rows after the window are not indexed
             }
-            // try Csv file
-            int size = bais.available();
-            CsvReportPage reportPage = new CsvReportPage(bais);
-            if (size > 0 && isEmptyCsvReportPage(reportPage)) {
-                throw new ReportPageInstantiationException("Unexpected binary data");
+        } else if (window != null) {
+            return getCsvWindow(openForRead(path), window);
+        }
+        return isMemoryMapped ? new MappedCsvReportPage(path) : new CsvReportPage(path);
+    }
+
+    /**
+     * Parses rows by the same parser and settings as {@link CsvReportPage}, parsing is stopped
+     * once the window is filled.
+     *
+     * @implNote Closes InputStream
+     */
+    private static CsvReportPage getCsvWindow(InputStream is, RowWindow window) {
+        CsvParser parser = new CsvParser(CsvReportPage.getDefaultCsvParserSettings());
+        try {
+            parser.beginParsing(is, UTF_8);
+            CellStore cells = new CellStore(window);
+            for (int rowNum = 0; !cells.isAfterWindow(rowNum); rowNum++) {
+                @Nullable String @Nullable [] row = parser.parseNext();
+                if (row == null) {
+                    break;  // end of data
+                }
+                for (int column = 0; column < row.length; column++) {
+                    cells.setCell(rowNum, column, row[column]);
+                }
             }
+            return cells.toReportPage();
+        } finally {
+            parser.stopParsing();  // closes InputStream
+        }
+    }
+
+    /**
+     * @param window rows to read, null for all rows
+     */
+    private static CsvReportPage getCsvReportPage(Path path, @Nullable RowWindow window) throws IOException {
+        long size = Files.size(path);
+        CsvReportPage reportPage = getCsvReportPage(path, false, window);
+        if (size > 0 && isEmptyCsvReportPage(reportPage, window)) {
+            throw new ReportPageInstantiationException("Unexpected binary data");
+        }
+        return reportPage;
+    }
+
+    /**
+     * @param window rows to read, null for all rows
+     */
+    private static CsvReportPage getCsvReportPage(ByteArrayInputStream bais, @Nullable RowWindow window) {
+        int size = bais.available();
+        CsvReportPage reportPage = (window == null) ?
+                new CsvReportPage(bais) :
+                getCsvWindow(bais, window);
+        if (size > 0 && isEmptyCsvReportPage(reportPage, window)) {
+            throw new ReportPageInstantiationException("Unexpected binary data");
+        }
+        return reportPage;
+    }
+
+    /**
+     * Converts ReportPages to compact snapshots, ReportPage mapped by several sheet ids is converted once.
+     */
+    private Map<Object, ReportPage> toCompactReportPages(Map<Object, ReportPage> reportPages,
+                                                         CreationContext context) {
+        long start = System.nanoTime();
+        Map<ReportPage, ReportPage> compactPages = new IdentityHashMap<>();
+        Map<Object, ReportPage> result = new LinkedHashMap<>();
+        reportPages.forEach((sheetId, reportPage) -> result.put(sheetId,
+                compactPages.computeIfAbsent(reportPage, this::toCompactReportPage)));
+        context.phaseCompleted(Phase.COMPACTION, start);
+        return result;
+    }
+
+    private ReportPage toCompactReportPage(ReportPage reportPage) {
+        if (reportPage instanceof MappedCsvReportPage) {
             return reportPage;
+        }
+        CompactReportPage compactPage = (reportPage instanceof CompactReportPage) ?
+                (CompactReportPage) reportPage :
+                CompactReportPage.of(reportPage);
+        return indexedReportPages ? compactPage.indexed() : compactPage;
+    }
+
+    private boolean isCompact() {
+        return compactReportPages || indexedReportPages;
+    }
+
+    private static Map<String, ReportPage> toSheetNameMap(Map<Object, ReportPage> reportPages) {
+        Map<String, ReportPage> result = new LinkedHashMap<>();
+        reportPages.forEach((sheetName, reportPage) -> result.put(String.valueOf(sheetName), reportPage));
+        return result;
+    }
+
+    @Override
+    public ReportPageHandle open(Path path, Integer sheetNumber) {
+        return open(resources -> doCreate(path, sheetNumber, null, resources));
+    }
+
+    @Override
+    public ReportPageHandle open(Path path, String sheetName) {
+        return open(resources -> doCreate(path, sheetName, null, resources));
+    }
+
+    @Override
+    public ReportPageHandle open(InputStream is, Integer sheetNumber) {
+        return open(resources -> doCreate(is, sheetNumber, null, resources));
+    }
+
+    @Override
+    public ReportPageHandle open(InputStream is, String sheetName) {
+        return open(resources -> doCreate(is, sheetName, null, resources));
+    }
+
+    /**
+     * @param creator creates ReportPage and registers its resources
+     * @implSpec Releases registered resources if creation fails
+     */
+    private static ReportPageHandle open(Function<List<AutoCloseable>, ReportPage> creator) {
+        List<AutoCloseable> resources = new ArrayList<>();
+        try {
+            ReportPage reportPage = creator.apply(resources);
+            return new ReportPageHandle(reportPage, resources);
+        } catch (Exception e) {
+            ReportPageHandle.release(resources);
+            throw e;
+        }
+    }
+
+    @Override
+    public List<SheetInfo> getSheets(Path path) {
+        KnownFileExtension format = getExtension(path);
+        try {
+            return getSheets(path, format);
+        } catch (Exception e) {
+            throw new ReportPageInstantiationException("Can't read sheets of path: " + path, e);
+        }
+    }
+
+    /**
+     * @param path file or InputStream data spooled to temporary file
+     */
+    private static List<SheetInfo> getSheets(Path path, KnownFileExtension format) throws Exception {
+        switch (format) {
+            case XLS:
+                try (POIFSFileSystem fs = new POIFSFileSystem(path.toFile(), true)) {
+                    return XlsStreamingReader.readSheets(fs);
+                }
+            case XLSX:
+                OPCPackage pkg = OPCPackage.open(path.toFile(), PackageAccess.READ);
+                try {
+                    return XlsxStreamingReader.readSheets(pkg);
+                } finally {
+                    pkg.revert();  // closes read only package
+                }
+            case XML:
+                try (InputStream is = openForRead(path)) {
+                    return XmlStreamingReader.readSheets(skipNewLines(is));
+                }
+            default:
+                return CSV_SHEETS;
+        }
+    }
+
+    @Override
+    public List<SheetInfo> getSheets(InputStream is) {
+        try (SpooledInput input = SpooledInput.of(is, inMemoryThreshold)) {
+            @Nullable KnownFileExtension format = input.detectFormat(formatDetectionWindowSize);
+            if (format == null) {
+                format = XLSX;  // zip archive, content types entry is out of the detection window
+            }
+            return input.isSpooled() ?
+                    getSheets(input.getFile(), format) :
+                    getSheets(input.getBytes(), format);
         } catch (Exception e) {
             throw new ReportPageInstantiationException("Unexpected data format", e);
         }
     }
 
+    /**
+     * @implNote Closes InputStream
+     */
+    private static List<SheetInfo> getSheets(InputStream is, KnownFileExtension format) throws Exception {
+        switch (format) {
+            case XLS:
+                try (POIFSFileSystem fs = new POIFSFileSystem(is)) {  // constructor closes InputStream
+                    return XlsStreamingReader.readSheets(fs);
+                }
+            case XLSX:
+                OPCPackage pkg = OPCPackage.open(is);
+                try {
+                    return XlsxStreamingReader.readSheets(pkg);
+                } finally {
+                    pkg.revert();
+                    is.close();
+                }
+            case XML:
+                try (is) {
+                    return XmlStreamingReader.readSheets(skipNewLines(is));
+                }
+            default:
+                is.close();
+                return CSV_SHEETS;
+        }
+    }
+
+    @Override
+    public <S> List<BatchResult<S>> createBatch(Collection<? extends S> sources,
+                                                Function<? super S, ? extends ReportPage> creator,
+                                                Consumer<? super BatchResult<S>> resultConsumer) {
+        List<? extends S> items = new ArrayList<>(sources);
+        int count = items.size();
+        CompletionService<BatchResult<S>> completionService = new ExecutorCompletionService<>(batchExecutor);
+        List<Future<BatchResult<S>>> futures = new ArrayList<>(count);
+        List<BatchResult<S>> results = new ArrayList<>(count);
+        int parallelism = Math.max(1, batchParallelism);
+        try {
+            while (futures.size() < Math.min(parallelism, count)) {
+                futures.add(submit(completionService, futures.size(), items.get(futures.size()), creator));
+            }
+            for (int i = 0; i < count; i++) {
+                BatchResult<S> result = completionService.take().get();
+                results.add(result);
+                resultConsumer.accept(result);
+                if (futures.size() < count) {
+                    futures.add(submit(completionService, futures.size(), items.get(futures.size()), creator));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ReportPageInstantiationException("Batch ReportPage creation is interrupted", e);
+        } catch (ExecutionException e) {
+            throw new ReportPageInstantiationException("Unexpected batch task failure", e);  // task catches exceptions
+        } finally {
+            futures.forEach(future -> future.cancel(true));  // does nothing for completed tasks
+        }
+        results.sort(Comparator.comparingInt(BatchResult::getIndex));
+        return results;
+    }
+
+    private static <S> Future<BatchResult<S>> submit(CompletionService<BatchResult<S>> completionService,
+                                                     int index,
+                                                     S source,
+                                                     Function<? super S, ? extends ReportPage> creator) {
+        return completionService.submit(() -> {
+            try {
+                return BatchResult.success(index, source, creator.apply(source));
+            } catch (Exception e) {
+                return BatchResult.failure(index, source, e);
+            }
+        });
+    }
+
     /**
      * @implSpec Does not close InputStream
+     * @deprecated is not used by the factory, InputStream data is buffered in memory or spooled to temporary file
+     * depending on {@link #setInMemoryThreshold(int) in-memory threshold}
      */
+    @Deprecated
     public static ByteArrayInputStream convertToByteArrayInputStream(InputStream inputStream) throws IOException {
         if (inputStream.getClass() == ByteArrayInputStream.class) {
             return (ByteArrayInputStream) inputStream;  // close() does nothing
@@ -218,7 +1236,13 @@ public class DefaultReportPageFactory implements ReportPageFactory {
         }
     }
 
-    private static boolean isEmptyCsvReportPage(CsvReportPage reportPage) {
+    /**
+     * @param window read rows, empty rows before the window are not checked
+     */
+    private static boolean isEmptyCsvReportPage(CsvReportPage reportPage, @Nullable RowWindow window) {
+        if (window != null && window.getFirstRow() > 0) {
+            return false;  // window may be after the data end
+        }
         if (reportPage.getLastRowNum() == -1) {
             return true;
         }
@@ -231,6 +1255,15 @@ public class DefaultReportPageFactory implements ReportPageFactory {
                 reportPage.getCell(TableCellAddress.of(1, 0)) == null;
     }
 
+    /**
+     * Memory is not reserved in time and streaming engine should be used.
+     */
+    private static final class MemoryNotReservedException extends Exception {
+        private MemoryNotReservedException() {
+            super(null, null, false, false);  // control flow signal without stack trace
+        }
+    }
+
     enum KnownFileExtension {
         XLS, XLSX, XML, CSV;
 
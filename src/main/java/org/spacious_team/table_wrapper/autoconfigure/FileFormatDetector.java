@@ -0,0 +1,128 @@
+/*
+ * Table Wrapper Spring Boot Starter
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.autoconfigure;
+
+import lombok.NoArgsConstructor;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spacious_team.table_wrapper.autoconfigure.DefaultReportPageFactory.KnownFileExtension;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.Charset;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.charset.StandardCharsets.UTF_16;
+import static java.nio.charset.StandardCharsets.UTF_16BE;
+import static java.nio.charset.StandardCharsets.UTF_16LE;
+import static lombok.AccessLevel.PRIVATE;
+import static org.spacious_team.table_wrapper.autoconfigure.DefaultReportPageFactory.KnownFileExtension.*;
+
+/**
+ * Detects data format by the first bytes of the content (magic bytes).
+ */
+@NoArgsConstructor(access = PRIVATE)
+final class FileFormatDetector {
+
+    static final int DEFAULT_WINDOW_SIZE = 8 * 1024;
+    private static final byte[] OLE2_SIGNATURE = {
+            (byte) 0xD0, (byte) 0xCF, 0x11, (byte) 0xE0, (byte) 0xA1, (byte) 0xB1, 0x1A, (byte) 0xE1};
+    private static final byte[] ZIP_SIGNATURE = {'P', 'K', 3, 4};
+    private static final byte[] UTF8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+    private static final byte[] UTF16BE_BOM = {(byte) 0xFE, (byte) 0xFF};
+    private static final byte[] UTF16LE_BOM = {(byte) 0xFF, (byte) 0xFE};
+    private static final byte[] OOXML_CONTENT_TYPES = "[Content_Types].xml".getBytes(US_ASCII);
+    private static final String XML_PROLOG = "<?xml";
+    private static final String XML_WORKBOOK = "<Workbook";
+
+    /**
+     * Reads no more than {@code windowSize} bytes and resets stream to the current position.
+     *
+     * @return detected format, CSV for any unrecognized data or {@code null} if format is ambiguous
+     * @implSpec Does not close InputStream
+     */
+    static @Nullable KnownFileExtension detect(ByteArrayInputStream bais, int windowSize) {
+        bais.mark(windowSize);
+        byte[] head = new byte[windowSize];
+        int length = bais.read(head, 0, windowSize);
+        bais.reset();
+        return detect(head, Math.max(length, 0));
+    }
+
+    /**
+     * @param head   the first bytes of the content
+     * @param length number of valid bytes in {@code head}
+     * @return detected format, CSV for any unrecognized data or {@code null} if format is ambiguous
+     */
+    static @Nullable KnownFileExtension detect(byte[] head, int length) {
+        if (startsWith(head, length, 0, OLE2_SIGNATURE)) {
+            return XLS;
+        } else if (startsWith(head, length, 0, ZIP_SIGNATURE)) {
+            // zip archive, but not an Office Open XML package (or window is too small to be sure)
+            return contains(head, length, OOXML_CONTENT_TYPES) ? XLSX : null;
+        }
+        int offset = startsWith(head, length, 0, UTF8_BOM) ? UTF8_BOM.length : 0;
+        @Nullable Charset utf16 = getUtf16Charset(head, length);
+        String text = (utf16 == null) ?
+                new String(head, offset, length - offset, US_ASCII) :
+                new String(head, 0, length, utf16);
+        text = text.stripLeading();
+        if (text.startsWith(XML_PROLOG) || text.startsWith(XML_WORKBOOK)) {
+            return XML;
+        }
+        return CSV;
+    }
+
+    /**
+     * Detects UTF-16 by byte order mark or by zero byte of the first ASCII char, as XML parsers do.
+     *
+     * @return UTF-16 charset or null if data is not UTF-16 encoded
+     */
+    private static @Nullable Charset getUtf16Charset(byte[] head, int length) {
+        if (length < 2) {
+            return null;
+        } else if (startsWith(head, length, 0, UTF16BE_BOM) || startsWith(head, length, 0, UTF16LE_BOM)) {
+            return UTF_16;  // decoder skips byte order mark
+        } else if (head[0] == 0 && head[1] != 0) {
+            return UTF_16BE;
+        } else if (head[0] != 0 && head[1] == 0) {
+            return UTF_16LE;
+        }
+        return null;
+    }
+
+    private static boolean startsWith(byte[] head, int length, int offset, byte[] prefix) {
+        if (length - offset < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (head[offset + i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean contains(byte[] head, int length, byte[] bytes) {
+        for (int offset = 0, last = length - bytes.length; offset <= last; offset++) {
+            if (startsWith(head, length, offset, bytes)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Table Wrapper Spring Boot Starter
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.autoconfigure;
+
+import lombok.ToString;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts how InputStream data format was recognized by {@link DefaultReportPageFactory}.
+ */
+@ToString
+public class FormatDetectionStatistics {
+
+    private final LongAdder detections = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+
+    /**
+     * Returns the number of InputStreams parsed by the parser chosen by content sniffing.
+     */
+    public long getDetections() {
+        return detections.sum();
+    }
+
+    /**
+     * Returns the number of InputStreams, which format wasn't recognized by content sniffing
+     * or which parsing by the chosen parser failed, so all the parsers were tried one by one.
+     */
+    public long getFallbacks() {
+        return fallbacks.sum();
+    }
+
+    void registerDetection() {
+        detections.increment();
+    }
+
+    void registerFallback() {
+        fallbacks.increment();
+    }
+}
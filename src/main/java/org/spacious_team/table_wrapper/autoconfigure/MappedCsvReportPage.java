@@ -0,0 +1,352 @@
+/*
+ * Table Wrapper Spring Boot Starter
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.autoconfigure;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spacious_team.table_wrapper.api.TableCellAddress;
+import org.spacious_team.table_wrapper.csv.CsvReportPage;
+import org.spacious_team.table_wrapper.csv.CsvTableRow;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Predicate;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * Csv report page reading memory-mapped file. Only row offsets index is stored in heap,
+ * the index is built on demand up to the requested row, cells are decoded on each row access.
+ * <p>
+ * Rows are ended by {@code \n}, {@code \r\n} or {@code \r}, line breaks of quoted values are normalized
+ * to {@code \n}. Empty lines are skipped, unquoted values are trimmed, empty unquoted values are nulls.
+ * <p>
+ * Unlike univocity parser of {@link CsvReportPage}, only comma, semicolon, tab or vertical bar delimiter
+ * is detected by the first row having any of them, only double quote is recognized as quote
+ * and escaped by doubling, and characters between closing quote and delimiter are ignored.
+ */
+public class MappedCsvReportPage extends CsvReportPage implements AutoCloseable {
+
+    private static final int SEGMENT_SIZE = 1 << 30;
+    private static final int DELIMITER_DETECTION_WINDOW = 64 * 1024;
+    private static final byte QUOTE = '"';
+    private static final byte[] DELIMITERS = {',', ';', '\t', '|'};
+    private static final byte[] UTF8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+    private final ByteBuffer[] segments;
+    private final long size;
+    private final Charset charset;
+    private final byte delimiter;
+    private long[] rowOffsets = new long[1024];
+    private int rowCount = 0;
+    private long indexedPosition;
+    private boolean isIndexed = false;
+    private boolean isClosed = false;
+
+    public MappedCsvReportPage(Path path) throws IOException {
+        this(path, UTF_8);
+    }
+
+    public MappedCsvReportPage(Path path, Charset charset) throws IOException {
+        this(map(path), charset);
+    }
+
+    /**
+     * @param segments data split into {@link #SEGMENT_SIZE} buffers, the last buffer may be smaller
+     */
+    private MappedCsvReportPage(ByteBuffer[] segments, Charset charset) {
+        super(new String[0][]);
+        this.charset = charset;
+        this.segments = segments;
+        this.size = getSize(segments);
+        this.indexedPosition = startsWithBom(segments, size) ? UTF8_BOM.length : 0;
+        this.delimiter = detectDelimiter(segments, size, indexedPosition);
+    }
+
+    private static ByteBuffer[] map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, READ)) {  // mapping remains valid after closing
+            long size = channel.size();
+            ByteBuffer[] segments = new ByteBuffer[getSegmentCount(size)];
+            for (int i = 0; i < segments.length; i++) {
+                long position = (long) i * SEGMENT_SIZE;
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(SEGMENT_SIZE, size - position));
+            }
+            return segments;
+        }
+    }
+
+    private static int getSegmentCount(long size) {
+        return (int) ((size + SEGMENT_SIZE - 1) / SEGMENT_SIZE);
+    }
+
+    private static long getSize(ByteBuffer[] segments) {
+        long size = 0;
+        for (ByteBuffer segment : segments) {
+            size += segment.capacity();
+        }
+        return size;
+    }
+
+    /**
+     * Decodes rows of the window to a compact ReportPage, rows after the window are not indexed.
+     */
+    CsvReportPage getWindow(RowWindow window) {
+        CellStore cells = new CellStore(window);
+        for (int rowNum = window.getFirstRow(); rowNum < window.getEndRow() && hasRow(rowNum); rowNum++) {
+            @Nullable String[] row = decodeRow(getRowOffset(rowNum));
+            for (int column = 0; column < row.length; column++) {
+                cells.setCell(rowNum, column, row[column]);
+            }
+        }
+        return cells.toReportPage();
+    }
+
+    /**
+     * Marks the page closed, following page access throws {@link IllegalStateException}.
+     * Mapped file is released by garbage collector once the page is unreachable.
+     */
+    @Override
+    public synchronized void close() {
+        isClosed = true;
+    }
+
+    @Override
+    public TableCellAddress find(Object value, int startRow, int endRow, int startColumn, int endColumn) {
+        return find(startRow, endRow, startColumn, endColumn, getValuePredicate(value));
+    }
+
+    @Override
+    public TableCellAddress find(int startRow, int endRow,
+                                 int startColumn, int endColumn,
+                                 Predicate<Object> cellValuePredicate) {
+        for (int rowNum = Math.max(0, startRow); rowNum < endRow && hasRow(rowNum); rowNum++) {
+            @Nullable String[] cells = decodeRow(getRowOffset(rowNum));
+            for (int column = Math.max(0, startColumn), last = Math.min(endColumn, cells.length); column < last; column++) {
+                @Nullable String cell = cells[column];
+                if (cell != null && cellValuePredicate.test(cell)) {
+                    return TableCellAddress.of(rowNum, column);
+                }
+            }
+        }
+        return TableCellAddress.NOT_FOUND;
+    }
+
+    @Override
+    public @Nullable CsvTableRow getRow(int i) {
+        if (i < 0 || !hasRow(i)) {
+            return null;
+        }
+        return CsvTableRow.of(decodeRow(getRowOffset(i)), i);
+    }
+
+    @Override
+    public int getLastRowNum() {
+        hasRow(Integer.MAX_VALUE);  // indexes all rows
+        return getRowCount() - 1;
+    }
+
+    /**
+     * Returns predicate of {@link CsvReportPage#find(Object, int, int, int, int)}: strings are matched
+     * by case-insensitive prefix, other values by string representation equality.
+     */
+    static Predicate<Object> getValuePredicate(Object value) {
+        if (value instanceof String) {
+            String prefix = ((String) value).trim().toLowerCase(Locale.ROOT);
+            return cell -> String.valueOf(cell).trim().toLowerCase(Locale.ROOT).startsWith(prefix);
+        }
+        String expected = String.valueOf(value);
+        return cell -> expected.equals(cell);
+    }
+
+    /**
+     * Indexes rows up to the requested row.
+     *
+     * @return true if row exists
+     * @throws IllegalStateException if the page is closed
+     */
+    private synchronized boolean hasRow(int rowNum) {
+        if (isClosed) {
+            throw new IllegalStateException("Csv report page is closed");
+        }
+        while (rowCount <= rowNum && !isIndexed) {
+            indexNextRow();
+        }
+        return rowNum < rowCount;
+    }
+
+    private synchronized long getRowOffset(int rowNum) {
+        return rowOffsets[rowNum];
+    }
+
+    private synchronized int getRowCount() {
+        return rowCount;
+    }
+
+    private void indexNextRow() {
+        long position = indexedPosition;
+        while (position < size && isLineBreak(get(position))) {
+            position++;  // skip empty lines
+        }
+        if (position >= size) {
+            isIndexed = true;
+            indexedPosition = position;
+            return;
+        }
+        if (rowCount == rowOffsets.length) {
+            rowOffsets = Arrays.copyOf(rowOffsets, rowCount * 2);
+        }
+        rowOffsets[rowCount++] = position;
+        boolean inQuotes = false;
+        while (position < size) {
+            byte b = get(position++);
+            if (b == QUOTE) {
+                inQuotes = !inQuotes;  // escaped quote toggles twice
+            } else if (isLineBreak(b) && !inQuotes) {
+                break;  // \n of \r\n is skipped as empty line
+            }
+        }
+        indexedPosition = position;
+    }
+
+    private @Nullable String[] decodeRow(long position) {
+        List<@Nullable String> cells = new ArrayList<>();
+        byte[] buffer = new byte[64];
+        int length = 0;
+        boolean isQuoted = false;
+        boolean inQuotes = false;
+        while (position < size) {
+            byte b = get(position++);
+            if (inQuotes) {
+                if (b == '\r') {
+                    buffer = append(buffer, length++, (byte) '\n');  // normalized line break
+                    if (position < size && get(position) == '\n') {
+                        position++;
+                    }
+                } else if (b != QUOTE) {
+                    buffer = append(buffer, length++, b);
+                } else if (position < size && get(position) == QUOTE) {
+                    buffer = append(buffer, length++, QUOTE);  // escaped quote
+                    position++;
+                } else {
+                    inQuotes = false;
+                }
+            } else if (b == delimiter) {
+                cells.add(toCellValue(buffer, length, isQuoted));
+                length = 0;
+                isQuoted = false;
+            } else if (isLineBreak(b)) {
+                break;
+            } else if (b == QUOTE && !isQuoted && isBlank(buffer, length)) {
+                inQuotes = isQuoted = true;
+                length = 0;
+            } else if (!isQuoted) {
+                buffer = append(buffer, length++, b);  // chars after closing quote are ignored
+            }
+        }
+        cells.add(toCellValue(buffer, length, isQuoted));
+        return cells.toArray(new String[0]);
+    }
+
+    private @Nullable String toCellValue(byte[] buffer, int length, boolean isQuoted) {
+        String value = new String(buffer, 0, length, charset);
+        if (isQuoted) {
+            return value;
+        }
+        value = value.trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static byte[] append(byte[] buffer, int length, byte b) {
+        if (length == buffer.length) {
+            buffer = Arrays.copyOf(buffer, length * 2);
+        }
+        buffer[length] = b;
+        return buffer;
+    }
+
+    private static boolean isLineBreak(byte b) {
+        return b == '\n' || b == '\r';
+    }
+
+    private static boolean isBlank(byte[] buffer, int length) {
+        for (int i = 0; i < length; i++) {
+            if (buffer[i] != ' ' && buffer[i] != '\t') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean startsWithBom(ByteBuffer[] segments, long size) {
+        if (size < UTF8_BOM.length) {
+            return false;
+        }
+        for (int i = 0; i < UTF8_BOM.length; i++) {
+            if (get(segments, i) != UTF8_BOM[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the most frequent delimiter of the first row having delimiters, comma by default.
+     */
+    private static byte detectDelimiter(ByteBuffer[] segments, long size, long position) {
+        int[] counts = new int[DELIMITERS.length];
+        boolean inQuotes = false;
+        for (long last = Math.min(size, position + DELIMITER_DETECTION_WINDOW); position < last; position++) {
+            byte b = get(segments, position);
+            if (b == QUOTE) {
+                inQuotes = !inQuotes;
+            } else if (isLineBreak(b) && !inQuotes) {
+                if (Arrays.stream(counts).anyMatch(count -> count > 0)) {
+                    break;
+                }
+            } else if (!inQuotes) {
+                for (int i = 0; i < DELIMITERS.length; i++) {
+                    if (b == DELIMITERS[i]) {
+                        counts[i]++;
+                    }
+                }
+            }
+        }
+        int result = 0;
+        for (int i = 1; i < counts.length; i++) {
+            if (counts[i] > counts[result]) {
+                result = i;
+            }
+        }
+        return DELIMITERS[result];
+    }
+
+    private byte get(long position) {
+        return get(segments, position);
+    }
+
+    private static byte get(ByteBuffer[] segments, long position) {
+        return segments[(int) (position / SEGMENT_SIZE)].get((int) (position % SEGMENT_SIZE));
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Table Wrapper Spring Boot Starter
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.autoconfigure;
+
+import lombok.Getter;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limits total estimated memory of concurrent workbook parsings. Parsing reserves its estimate before start
+ * and waits in FIFO order while the budget is exhausted. Reservation larger than the budget is reduced
+ * to the budget, so it is admitted when no other parsing is running.
+ */
+public class MemoryBudget {
+
+    /**
+     * Maximum total size in bytes of concurrently reserved memory
+     */
+    @Getter
+    private final long maxBytes;
+    /**
+     * Maximum time to wait for memory reservation
+     */
+    @Getter
+    private final Duration maxWait;
+    /**
+     * Action if memory is not reserved within {@link #maxWait}
+     */
+    @Getter
+    private final ExhaustionPolicy exhaustionPolicy;
+    private final Queue<Object> waiters = new ArrayDeque<>();
+    private long reservedBytes = 0;
+    private final LongAdder rejections = new LongAdder();
+
+    public MemoryBudget(long maxBytes, Duration maxWait, ExhaustionPolicy exhaustionPolicy) {
+        Assert.isTrue(maxBytes > 0, "Max bytes should be positive");
+        Assert.isTrue(!maxWait.isNegative(), "Max wait should not be negative");
+        this.maxBytes = maxBytes;
+        this.maxWait = maxWait;
+        this.exhaustionPolicy = exhaustionPolicy;
+    }
+
+    /**
+     * Reserves memory waiting up to {@link #maxWait} for the earlier reservations release.
+     *
+     * @return reservation to be closed after parsing or null if memory is not reserved in time
+     */
+    synchronized @Nullable Reservation reserve(long bytes) throws InterruptedException {
+        long amount = Math.max(0, Math.min(bytes, maxBytes));
+        if (waiters.isEmpty() && reservedBytes + amount <= maxBytes) {
+            reservedBytes += amount;
+            return new Reservation(amount);
+        }
+        Object ticket = new Object();
+        waiters.add(ticket);
+        try {
+            long deadline = System.nanoTime() + maxWait.toNanos();
+            while (waiters.peek() != ticket || reservedBytes + amount > maxBytes) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    rejections.increment();
+                    return null;
+                }
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            }
+            reservedBytes += amount;
+            return new Reservation(amount);
+        } finally {
+            waiters.remove(ticket);
+            notifyAll();  // the next waiter may be admitted
+        }
+    }
+
+    /**
+     * Returns total size in bytes of reserved memory.
+     */
+    public synchronized long getReservedBytes() {
+        return reservedBytes;
+    }
+
+    /**
+     * Returns the number of parsings waiting for memory reservation.
+     */
+    public synchronized int getQueueLength() {
+        return waiters.size();
+    }
+
+    /**
+     * Returns the number of reservations not made within {@link #maxWait}.
+     */
+    public long getRejectionCount() {
+        return rejections.sum();
+    }
+
+    public enum ExhaustionPolicy {
+        /**
+         * Fails ReportPage creation with {@link MemoryBudgetExhaustedException}
+         */
+        FAIL,
+        /**
+         * Reads data by {@link ParserEngine#STREAMING} engine, which doesn't build workbook object model
+         */
+        STREAMING
+    }
+
+    /**
+     * Reserved memory, released once on close.
+     */
+    final class Reservation implements AutoCloseable {
+        private long amount;
+
+        private Reservation(long amount) {
+            this.amount = amount;
+        }
+
+        @Override
+        public void close() {
+            synchronized (MemoryBudget.this) {
+                reservedBytes -= amount;
+                amount = 0;
+                MemoryBudget.this.notifyAll();
+            }
+        }
+    }
+}
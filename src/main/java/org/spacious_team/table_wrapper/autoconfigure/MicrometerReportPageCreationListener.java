@@ -0,0 +1,153 @@
+/*
+ * Table Wrapper Spring Boot Starter
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.autoconfigure;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records ReportPage creation metrics:
+ * <ul>
+ *     <li>{@code table.wrapper.create} timer tagged by source, format and outcome;</li>
+ *     <li>{@code table.wrapper.create.phase} timer tagged by source, format and phase;</li>
+ *     <li>{@code table.wrapper.engine.selections} counter tagged by source, format and engine;</li>
+ *     <li>{@code table.wrapper.memory.wait} timer of memory budget reservation tagged by source, format and outcome;</li>
+ *     <li>{@code table.wrapper.memory.queue} distribution of parsings waiting for memory reservation;</li>
+ *     <li>{@code table.wrapper.input.size} distribution of source data sizes in bytes;</li>
+ *     <li>{@code table.wrapper.rows} distribution of created ReportPages' row counts;</li>
+ *     <li>{@code table.wrapper.create.failures} counter tagged by source, format and exception.</li>
+ * </ul>
+ */
+@RequiredArgsConstructor
+public class MicrometerReportPageCreationListener implements ReportPageCreationListener {
+
+    private static final String PREFIX = "table.wrapper.";
+    private final MeterRegistry registry;
+
+    @Override
+    public void onPhaseCompleted(SourceType sourceType, String format, Phase phase, long durationNanos) {
+        Timer.builder(PREFIX + "create.phase")
+                .description("ReportPage creation phase duration")
+                .tag("source", getSourceTag(sourceType))
+                .tag("format", format)
+                .tag("phase", phase.name().toLowerCase(Locale.ROOT))
+                .register(registry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void onEngineSelected(SourceType sourceType, String format, ParserEngine engine, long inputSize) {
+        Counter.builder(PREFIX + "engine.selections")
+                .description("Parser engine selections")
+                .tag("source", getSourceTag(sourceType))
+                .tag("format", format)
+                .tag("engine", engine.name().toLowerCase(Locale.ROOT))
+                .register(registry)
+                .increment();
+    }
+
+    @Override
+    public void onMemoryReservation(SourceType sourceType,
+                                    String format,
+                                    long bytes,
+                                    int queueLength,
+                                    long waitNanos,
+                                    boolean isReserved) {
+        String source = getSourceTag(sourceType);
+        Timer.builder(PREFIX + "memory.wait")
+                .description("Memory budget reservation wait duration")
+                .tag("source", source)
+                .tag("format", format)
+                .tag("outcome", isReserved ? "reserved" : "rejected")
+                .register(registry)
+                .record(waitNanos, TimeUnit.NANOSECONDS);
+        DistributionSummary.builder(PREFIX + "memory.queue")
+                .description("Parsings waiting for memory reservation")
+                .baseUnit("parsings")
+                .tag("source", source)
+                .register(registry)
+                .record(queueLength);
+    }
+
+    @Override
+    public void onCreated(SourceType sourceType, String format, long inputSize, long rowCount, long durationNanos) {
+        String source = getSourceTag(sourceType);
+        recordCreation(source, format, "success", durationNanos);
+        if (inputSize >= 0) {
+            DistributionSummary.builder(PREFIX + "input.size")
+                    .description("ReportPage source data size")
+                    .baseUnit("bytes")
+                    .tag("source", source)
+                    .tag("format", format)
+                    .register(registry)
+                    .record(inputSize);
+        }
+        if (rowCount >= 0) {
+            DistributionSummary.builder(PREFIX + "rows")
+                    .description("Created ReportPages row count")
+                    .baseUnit("rows")
+                    .tag("source", source)
+                    .tag("format", format)
+                    .register(registry)
+                    .record(rowCount);
+        }
+    }
+
+    @Override
+    public void onFailed(SourceType sourceType, String format, Exception exception, long durationNanos) {
+        String source = getSourceTag(sourceType);
+        recordCreation(source, format, "failure", durationNanos);
+        Counter.builder(PREFIX + "create.failures")
+                .description("ReportPage creation failures")
+                .tag("source", source)
+                .tag("format", format)
+                .tag("exception", getExceptionTag(exception))
+                .register(registry)
+                .increment();
+    }
+
+    private void recordCreation(String source, String format, String outcome, long durationNanos) {
+        Timer.builder(PREFIX + "create")
+                .description("ReportPage creation duration")
+                .tag("source", source)
+                .tag("format", format)
+                .tag("outcome", outcome)
+                .register(registry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static String getSourceTag(SourceType sourceType) {
+        return sourceType.name().toLowerCase(Locale.ROOT);
+    }
+
+    private static String getExceptionTag(Exception exception) {
+        @Nullable Throwable cause = exception.getCause();
+        Throwable rootCause = (exception instanceof ReportPageInstantiationException && cause != null) ?
+                cause :
+                exception;
+        return rootCause.getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Table Wrapper Spring Boot Starter
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.autoconfigure;
+
+/**
+ * Parser implementation used by {@link DefaultReportPageFactory} to read a file.
+ */
+public enum ParserEngine {
+    /**
+     * Builds full workbook object model and wraps the sheet, the fastest choice for small files.
+     */
+    DOM,
+    /**
+     * Reads only the requested sheet as an event stream and stores its cell values in a compact form.
+     * Uses much less memory for large files. Cell values of the created ReportPage are strings.
+     */
+    STREAMING,
+    /**
+     * Chooses {@link #DOM} for data not exceeding the format's streaming threshold and {@link #STREAMING}
+     * for larger data or data of unknown size, the chosen engine is reported
+     * by {@link ReportPageCreationListener#onEngineSelected}.
+     */
+    AUTO
+}
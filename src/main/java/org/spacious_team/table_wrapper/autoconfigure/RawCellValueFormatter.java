@@ -0,0 +1,64 @@
+/*
+ * Table Wrapper Spring Boot Starter
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.autoconfigure;
+
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Formats Excel numeric cell values without locale and cell style number format:
+ * numbers are formatted as plain decimals, dates as "yyyy-MM-dd HH:mm:ss",
+ * so cell values can be parsed back by ReportPage implementation.
+ */
+class RawCellValueFormatter extends DataFormatter {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    @Override
+    public String formatRawCellContents(double value, int formatIndex, String formatString, boolean use1904Windowing) {
+        return format(value, formatIndex, formatString, use1904Windowing);
+    }
+
+    static String format(double value, int formatIndex, @Nullable String formatString, boolean use1904Windowing) {
+        if (formatString != null &&
+                DateUtil.isValidExcelDate(value) &&
+                DateUtil.isADateFormat(formatIndex, formatString)) {
+            LocalDateTime dateTime = DateUtil.getLocalDateTime(value, use1904Windowing);
+            return (dateTime.toLocalTime().equals(LocalTime.MIDNIGHT) ? DATE_FORMATTER : DATE_TIME_FORMATTER)
+                    .format(dateTime);
+        }
+        return formatNumber(value);
+    }
+
+    static String formatNumber(double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return String.valueOf(value);
+        }
+        return BigDecimal.valueOf(value)
+                .stripTrailingZeros()
+                .toPlainString();
+    }
+}
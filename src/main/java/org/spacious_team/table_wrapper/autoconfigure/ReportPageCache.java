@@ -0,0 +1,104 @@
+/*
+ * Table Wrapper Spring Boot Starter
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.autoconfigure;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spacious_team.table_wrapper.api.ReportPage;
+import org.spacious_team.table_wrapper.autoconfigure.DefaultReportPageFactory.KnownFileExtension;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Bounded LRU cache of ReportPages created from InputStream data, keyed by the data content hash
+ * and the requested sheets, so repeatedly uploaded data is parsed once.
+ * Entries are evicted by entry count, by total weight (the size of the source data in bytes)
+ * and after time-to-live expiration since loading.
+ * <p>
+ * Cached ReportPages are immutable snapshots shared by all callers, they are created by
+ * {@link ParserEngine#STREAMING} engine.
+ */
+public class ReportPageCache extends BoundedCache<ReportPageCache.Key> {
+
+    /**
+     * @param maxEntries maximum number of cached data
+     * @param maxWeight  maximum total size in bytes of cached ReportPages' source data
+     * @param timeToLive time to live of the cached ReportPages since loading
+     */
+    public ReportPageCache(int maxEntries, long maxWeight, Duration timeToLive) {
+        this(maxEntries, maxWeight, timeToLive, Clock.systemUTC());
+    }
+
+    ReportPageCache(int maxEntries, long maxWeight, Duration timeToLive, Clock clock) {
+        super(maxEntries, maxWeight, timeToLive, clock);
+    }
+
+    @Override
+    long getWeight(Key key) {
+        return key.size;
+    }
+
+    @Getter
+    @ToString
+    @EqualsAndHashCode
+    @RequiredArgsConstructor(access = PRIVATE)
+    static final class Key {
+        private final BigInteger contentHash;
+        private final long size;
+        /**
+         * Requested sheets and row window
+         */
+        private final Object selection;
+
+        /**
+         * @implSpec Reads data and resets it for parsing
+         */
+        static Key of(SpooledInput input, SheetSelector selector) throws IOException {
+            BigInteger hash = input.isSpooled() ?
+                    ContentHash.of(input.getFile()) :
+                    ContentHash.of(input.getBytes());
+            return new Key(hash, input.getSize(), selector.getSelection());
+        }
+    }
+
+    @Getter
+    static final class Entry {
+        /**
+         * Detected data format, null if unknown
+         */
+        private final @Nullable KnownFileExtension format;
+        private final Map<Object, ReportPage> reportPages;
+
+        Entry(@Nullable KnownFileExtension format, Map<Object, ReportPage> reportPages) {
+            this.format = format;
+            this.reportPages = Collections.unmodifiableMap(new LinkedHashMap<>(reportPages));
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Table Wrapper Spring Boot Starter
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.autoconfigure;
+
+/**
+ * Receives ReportPage creation events of {@link DefaultReportPageFactory}.
+ * Methods are called by the thread creating ReportPage, implementation should be thread-safe.
+ * Format argument is one of "xls", "xlsx", "xml", "csv" or "unknown".
+ */
+public interface ReportPageCreationListener {
+
+    ReportPageCreationListener NOOP = new ReportPageCreationListener() {
+    };
+
+    /**
+     * Called after each phase of ReportPage creation. Phase may be repeated
+     * if InputStream data format was not recognized and the parsers are tried one by one.
+     */
+    default void onPhaseCompleted(SourceType sourceType, String format, Phase phase, long durationNanos) {
+    }
+
+    /**
+     * Called before workbook parsing with the engine chosen for the format.
+     * Called for each parsing attempt if InputStream data format was not recognized.
+     *
+     * @param engine    {@link ParserEngine#DOM} or {@link ParserEngine#STREAMING}
+     * @param inputSize source data size in bytes
+     */
+    default void onEngineSelected(SourceType sourceType, String format, ParserEngine engine, long inputSize) {
+    }
+
+    /**
+     * Called after memory reservation attempt before workbook parsing if {@link MemoryBudget} is used.
+     *
+     * @param bytes       estimated memory in bytes
+     * @param queueLength number of parsings waiting for memory reservation before this attempt
+     * @param isReserved  false if memory is not reserved within the maximum wait time
+     */
+    default void onMemoryReservation(SourceType sourceType,
+                                     String format,
+                                     long bytes,
+                                     int queueLength,
+                                     long waitNanos,
+                                     boolean isReserved) {
+    }
+
+    /**
+     * @param inputSize source data size in bytes
+     * @param rowCount  total row count of created ReportPages or -1 if it is not known without full data reading
+     */
+    default void onCreated(SourceType sourceType, String format, long inputSize, long rowCount, long durationNanos) {
+    }
+
+    default void onFailed(SourceType sourceType, String format, Exception exception, long durationNanos) {
+    }
+
+    enum SourceType {
+        PATH, INPUT_STREAM
+    }
+
+    enum Phase {
+        /**
+         * InputStream data reading to memory or temporary file
+         */
+        BUFFERING,
+        /**
+         * InputStream data content hash calculation for ReportPage cache lookup
+         */
+        CONTENT_HASHING,
+        /**
+         * InputStream data format detection by magic bytes
+         */
+        FORMAT_DETECTION,
+        /**
+         * Workbook or csv data parsing, streaming engines also read selected sheets in this phase
+         */
+        WORKBOOK_PARSING,
+        /**
+         * Selected sheets lookup in the parsed workbook and ReportPage wrapping
+         */
+        SHEET_LOOKUP,
+        /**
+         * ReportPage conversion to compact snapshot
+         */
+        COMPACTION
+    }
+}
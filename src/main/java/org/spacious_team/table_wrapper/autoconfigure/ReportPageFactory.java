@@ -20,8 +20,20 @@ package org.spacious_team.table_wrapper.autoconfigure;
 
 import org.spacious_team.table_wrapper.api.ReportPage;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 public interface ReportPageFactory {
 
@@ -55,6 +67,92 @@ public interface ReportPageFactory {
      */
     ReportPage create(Path path, String sheetName);
 
+    /**
+     * Chooses and creates ReportPage implementations for all sheets by file name extension: "xls", "xlsx", "xml" or "csv".
+     * Workbook is parsed once.
+     *
+     * @return sheet names to ReportPages map in workbook order, csv file's ReportPage is mapped by empty string
+     * @throws ReportPageInstantiationException if the file name extension is not expected
+     *                                          or ReportPage instance creation fails
+     * @implSpec Default implementation lists sheets by {@link #getSheets(Path)}
+     * and creates ReportPage of each sheet by {@link #create(Path, Integer)}, workbook is parsed for each sheet
+     */
+    default Map<String, ReportPage> createAll(Path path) {
+        Map<String, ReportPage> reportPages = new LinkedHashMap<>();
+        for (SheetInfo sheet : getSheets(path)) {
+            reportPages.put(sheet.getName(), create(path, sheet.getIndex()));
+        }
+        return reportPages;
+    }
+
+    /**
+     * Chooses and creates ReportPage implementations by file name extension: "xls", "xlsx", "xml" or "csv".
+     * Workbook is parsed once.
+     *
+     * @param sheetIds 0-based sheet numbers (Integer) or sheet names (String) for "xls", "xlsx", "xml" files,
+     *                 they don't used for csv files
+     * @return sheet identifiers to ReportPages map in the requested order,
+     * each identifier is mapped to the same ReportPage for csv file
+     * @throws ReportPageInstantiationException if the file name extension is not expected, some sheet is not found
+     *                                          or ReportPage instance creation fails
+     * @implSpec Default implementation creates ReportPage of each sheet by {@link #create(Path, Integer)}
+     * or {@link #create(Path, String)}, workbook is parsed for each sheet
+     */
+    default Map<Object, ReportPage> create(Path path, Collection<?> sheetIds) {
+        Map<Object, ReportPage> reportPages = new LinkedHashMap<>();
+        for (Object sheetId : sheetIds) {
+            if (sheetId instanceof Integer) {
+                reportPages.put(sheetId, create(path, (Integer) sheetId));
+            } else if (sheetId instanceof String) {
+                reportPages.put(sheetId, create(path, (String) sheetId));
+            } else {
+                throw new ReportPageInstantiationException("Sheet number or name expected: " + sheetId);
+            }
+        }
+        return reportPages;
+    }
+
+    /**
+     * Chooses and creates ReportPage implementation by file name extension: "xls", "xlsx", "xml" or "csv".
+     * Uses the first sheet for files with extensions "xls", "xlsx", "xml" to create a ReportPage.
+     * Reads only rows of the window, sheet reading is stopped once the window is filled.
+     * Created ReportPage stores cell values as strings regardless of the file format.
+     *
+     * @throws ReportPageInstantiationException if the file name extension is not expected
+     *                                          or ReportPage instance creation fails
+     */
+    default ReportPage create(Path path, RowWindow window) {
+        return create(path, 0, window);
+    }
+
+    /**
+     * Chooses and creates ReportPage implementation by file name extension: "xls", "xlsx", "xml" or "csv".
+     * Reads only rows of the window, sheet reading is stopped once the window is filled.
+     * Created ReportPage stores cell values as strings regardless of the file format.
+     *
+     * @param sheetNumber index of the 0-based sheet number for "xls", "xlsx", "xml" files, it doesn't used for csv files
+     * @throws ReportPageInstantiationException if the file name extension is not expected
+     *                                          or ReportPage instance creation fails
+     * @implSpec Default implementation ignores the window and reads all rows by {@link #create(Path, Integer)}
+     */
+    default ReportPage create(Path path, Integer sheetNumber, RowWindow window) {
+        return create(path, sheetNumber);
+    }
+
+    /**
+     * Chooses and creates ReportPage implementation by file name extension: "xls", "xlsx", "xml" or "csv".
+     * Reads only rows of the window, sheet reading is stopped once the window is filled.
+     * Created ReportPage stores cell values as strings regardless of the file format.
+     *
+     * @param sheetName sheet name for "xls", "xlsx", "xml" files, it doesn't used for csv files
+     * @throws ReportPageInstantiationException if the file name extension is not expected
+     *                                          or ReportPage instance creation fails
+     * @implSpec Default implementation ignores the window and reads all rows by {@link #create(Path, String)}
+     */
+    default ReportPage create(Path path, String sheetName, RowWindow window) {
+        return create(path, sheetName);
+    }
+
     /**
      * Creates ReportPage implementation from input stream.
      * Uses the first sheet for xls / xlsx / xml files to create a ReportPage.
@@ -84,4 +182,394 @@ public interface ReportPageFactory {
      *                                          or ReportPage instance creation fails
      */
     ReportPage create(InputStream is, String sheetName);
+
+    /**
+     * Creates ReportPage implementations for all sheets from input stream. Workbook is parsed once.
+     *
+     * @return sheet names to ReportPages map in workbook order, csv data ReportPage is mapped by empty string
+     * @throws ReportPageInstantiationException if ReportPage instance creation fails
+     * @implSpec Default implementation buffers data in memory, lists sheets by {@link #getSheets(InputStream)}
+     * and creates ReportPage of each sheet by {@link #create(InputStream, Integer)}, workbook is parsed for each sheet
+     */
+    default Map<String, ReportPage> createAll(InputStream is) {
+        byte[] data = readAllBytes(is);
+        Map<String, ReportPage> reportPages = new LinkedHashMap<>();
+        for (SheetInfo sheet : getSheets(new ByteArrayInputStream(data))) {
+            reportPages.put(sheet.getName(), create(new ByteArrayInputStream(data), sheet.getIndex()));
+        }
+        return reportPages;
+    }
+
+    /**
+     * Creates ReportPage implementations from input stream. Workbook is parsed once.
+     *
+     * @param sheetIds 0-based sheet numbers (Integer) or sheet names (String) for xls / xlsx / xml data,
+     *                 they don't used for csv data
+     * @return sheet identifiers to ReportPages map in the requested order,
+     * each identifier is mapped to the same ReportPage for csv data
+     * @throws ReportPageInstantiationException if some sheet is not found or ReportPage instance creation fails
+     * @implSpec Default implementation buffers data in memory and creates ReportPage of each sheet
+     * by {@link #create(InputStream, Integer)} or {@link #create(InputStream, String)}, workbook is parsed for each sheet
+     */
+    default Map<Object, ReportPage> create(InputStream is, Collection<?> sheetIds) {
+        byte[] data = readAllBytes(is);
+        Map<Object, ReportPage> reportPages = new LinkedHashMap<>();
+        for (Object sheetId : sheetIds) {
+            if (sheetId instanceof Integer) {
+                reportPages.put(sheetId, create(new ByteArrayInputStream(data), (Integer) sheetId));
+            } else if (sheetId instanceof String) {
+                reportPages.put(sheetId, create(new ByteArrayInputStream(data), (String) sheetId));
+            } else {
+                throw new ReportPageInstantiationException("Sheet number or name expected: " + sheetId);
+            }
+        }
+        return reportPages;
+    }
+
+    /**
+     * Creates ReportPage implementation from input stream.
+     * Uses the first sheet for "xls", "xlsx", "xml" data to create a ReportPage.
+     * Reads only rows of the window, sheet reading is stopped once the window is filled.
+     * Created ReportPage stores cell values as strings regardless of the data format.
+     *
+     * @throws ReportPageInstantiationException if ReportPage instance creation fails
+     */
+    default ReportPage create(InputStream is, RowWindow window) {
+        return create(is, 0, window);
+    }
+
+    /**
+     * Creates ReportPage implementation from input stream.
+     * Reads only rows of the window, sheet reading is stopped once the window is filled.
+     * Created ReportPage stores cell values as strings regardless of the data format.
+     *
+     * @param sheetNumber index of the 0-based sheet number for "xls", "xlsx", "xml" files, it doesn't used for csv files
+     * @throws ReportPageInstantiationException if ReportPage instance creation fails
+     * @implSpec Default implementation ignores the window and reads all rows by {@link #create(InputStream, Integer)}
+     */
+    default ReportPage create(InputStream is, Integer sheetNumber, RowWindow window) {
+        return create(is, sheetNumber);
+    }
+
+    /**
+     * Creates ReportPage implementation from input stream.
+     * Reads only rows of the window, sheet reading is stopped once the window is filled.
+     * Created ReportPage stores cell values as strings regardless of the data format.
+     *
+     * @param sheetName sheet name for "xls", "xlsx", "xml" files, it doesn't used for csv files
+     * @throws ReportPageInstantiationException if ReportPage instance creation fails
+     * @implSpec Default implementation ignores the window and reads all rows by {@link #create(InputStream, String)}
+     */
+    default ReportPage create(InputStream is, String sheetName, RowWindow window) {
+        return create(is, sheetName);
+    }
+
+    /**
+     * Same as {@link #create(Path)}, but returns ReportPage with its resources released by the handle closing.
+     *
+     * @throws ReportPageInstantiationException if the file name extension is not expected
+     *                                          or ReportPage instance creation fails
+     */
+    default ReportPageHandle open(Path path) {
+        return open(path, 0);
+    }
+
+    /**
+     * Same as {@link #create(Path, Integer)}, but returns ReportPage with its resources released by the handle closing.
+     *
+     * @throws ReportPageInstantiationException if the file name extension is not expected
+     *                                          or ReportPage instance creation fails
+     * @implSpec Default implementation returns ReportPage created by {@link #create(Path, Integer)}
+     * without resources to release
+     */
+    default ReportPageHandle open(Path path, Integer sheetNumber) {
+        return new ReportPageHandle(create(path, sheetNumber), List.of());
+    }
+
+    /**
+     * Same as {@link #create(Path, String)}, but returns ReportPage with its resources released by the handle closing.
+     *
+     * @throws ReportPageInstantiationException if the file name extension is not expected
+     *                                          or ReportPage instance creation fails
+     * @implSpec Default implementation returns ReportPage created by {@link #create(Path, String)}
+     * without resources to release
+     */
+    default ReportPageHandle open(Path path, String sheetName) {
+        return new ReportPageHandle(create(path, sheetName), List.of());
+    }
+
+    /**
+     * Same as {@link #create(InputStream)}, but returns ReportPage with its resources released by the handle closing.
+     *
+     * @throws ReportPageInstantiationException if ReportPage instance creation fails
+     */
+    default ReportPageHandle open(InputStream is) {
+        return open(is, 0);
+    }
+
+    /**
+     * Same as {@link #create(InputStream, Integer)}, but returns ReportPage with its resources
+     * released by the handle closing.
+     *
+     * @throws ReportPageInstantiationException if ReportPage instance creation fails
+     * @implSpec Default implementation returns ReportPage created by {@link #create(InputStream, Integer)}
+     * without resources to release
+     */
+    default ReportPageHandle open(InputStream is, Integer sheetNumber) {
+        return new ReportPageHandle(create(is, sheetNumber), List.of());
+    }
+
+    /**
+     * Same as {@link #create(InputStream, String)}, but returns ReportPage with its resources
+     * released by the handle closing.
+     *
+     * @throws ReportPageInstantiationException if ReportPage instance creation fails
+     * @implSpec Default implementation returns ReportPage created by {@link #create(InputStream, String)}
+     * without resources to release
+     */
+    default ReportPageHandle open(InputStream is, String sheetName) {
+        return new ReportPageHandle(create(is, sheetName), List.of());
+    }
+
+    /**
+     * Lists sheets of the file chosen by file name extension: "xls", "xlsx", "xml" or "csv"
+     * without parsing sheet data. Csv file has one sheet with empty name.
+     *
+     * @return sheets in workbook order
+     * @throws ReportPageInstantiationException if the file name extension is not expected, file reading fails
+     *                                          or sheet listing is not supported by the implementation
+     * @implSpec Default implementation doesn't support sheet listing, sheet names can't be obtained
+     * by {@code create} methods
+     */
+    default List<SheetInfo> getSheets(Path path) {
+        throw new ReportPageInstantiationException("Sheet listing is not supported by " + getClass().getName());
+    }
+
+    /**
+     * Lists sheets of input stream data without parsing sheet data. Csv data has one sheet with empty name.
+     *
+     * @return sheets in workbook order
+     * @throws ReportPageInstantiationException if data reading fails or sheet listing is not supported
+     *                                          by the implementation
+     * @implSpec Default implementation doesn't support sheet listing, sheet names can't be obtained
+     * by {@code create} methods
+     */
+    default List<SheetInfo> getSheets(InputStream is) {
+        throw new ReportPageInstantiationException("Sheet listing is not supported by " + getClass().getName());
+    }
+
+    /**
+     * Creates ReportPages for the batch of sources concurrently.
+     * Failure of one source doesn't abort the batch, it is returned as failed {@link BatchResult}.
+     *
+     * @param creator ReportPage creation function, for example {@code factory::create}
+     * @param <S>     source type, for example Path or InputStream
+     * @return results in sources order
+     */
+    default <S> List<BatchResult<S>> createBatch(Collection<? extends S> sources,
+                                                 Function<? super S, ? extends ReportPage> creator) {
+        return createBatch(sources, creator, result -> {
+        });
+    }
+
+    /**
+     * Creates ReportPages for the batch of sources concurrently.
+     * Failure of one source doesn't abort the batch, it is returned as failed {@link BatchResult}.
+     *
+     * @param creator        ReportPage creation function, for example {@code factory::create}
+     * @param resultConsumer receives results in completion order in the calling thread
+     * @param <S>            source type, for example Path or InputStream
+     * @return results in sources order
+     * @throws ReportPageInstantiationException if the calling thread is interrupted
+     * @implSpec Default implementation creates ReportPages one by one in the calling thread
+     */
+    default <S> List<BatchResult<S>> createBatch(Collection<? extends S> sources,
+                                                 Function<? super S, ? extends ReportPage> creator,
+                                                 Consumer<? super BatchResult<S>> resultConsumer) {
+        List<BatchResult<S>> results = new ArrayList<>(sources.size());
+        for (S source : sources) {
+            BatchResult<S> result;
+            try {
+                result = BatchResult.success(results.size(), source, creator.apply(source));
+            } catch (Exception e) {
+                result = BatchResult.failure(results.size(), source, e);
+            }
+            results.add(result);
+            resultConsumer.accept(result);
+        }
+        return results;
+    }
+
+    /**
+     * Returns executor of {@code createAsync} methods.
+     *
+     * @implSpec Default implementation returns {@link ForkJoinPool#commonPool()}
+     */
+    default Executor getAsyncExecutor() {
+        return ForkJoinPool.commonPool();
+    }
+
+    /**
+     * Asynchronous version of {@link #create(Path)}.
+     * Returned future completes exceptionally with {@link ReportPageInstantiationException} if creation fails.
+     *
+     * @throws java.util.concurrent.RejectedExecutionException if executor rejects the task
+     */
+    default CompletableFuture<ReportPage> createAsync(Path path) {
+        return CompletableFuture.supplyAsync(() -> create(path), getAsyncExecutor());
+    }
+
+    /**
+     * Asynchronous version of {@link #create(Path, Integer)}.
+     *
+     * @throws java.util.concurrent.RejectedExecutionException if executor rejects the task
+     */
+    default CompletableFuture<ReportPage> createAsync(Path path, Integer sheetNumber) {
+        return CompletableFuture.supplyAsync(() -> create(path, sheetNumber), getAsyncExecutor());
+    }
+
+    /**
+     * Asynchronous version of {@link #create(Path, String)}.
+     *
+     * @throws java.util.concurrent.RejectedExecutionException if executor rejects the task
+     */
+    default CompletableFuture<ReportPage> createAsync(Path path, String sheetName) {
+        return CompletableFuture.supplyAsync(() -> create(path, sheetName), getAsyncExecutor());
+    }
+
+    /**
+     * Asynchronous version of {@link #createAll(Path)}.
+     *
+     * @throws java.util.concurrent.RejectedExecutionException if executor rejects the task
+     */
+    default CompletableFuture<Map<String, ReportPage>> createAllAsync(Path path) {
+        return CompletableFuture.supplyAsync(() -> createAll(path), getAsyncExecutor());
+    }
+
+    /**
+     * Asynchronous version of {@link #create(Path, Collection)}.
+     *
+     * @throws java.util.concurrent.RejectedExecutionException if executor rejects the task
+     */
+    default CompletableFuture<Map<Object, ReportPage>> createAsync(Path path, Collection<?> sheetIds) {
+        return CompletableFuture.supplyAsync(() -> create(path, sheetIds), getAsyncExecutor());
+    }
+
+    /**
+     * Asynchronous version of {@link #create(Path, RowWindow)}.
+     *
+     * @throws java.util.concurrent.RejectedExecutionException if executor rejects the task
+     */
+    default CompletableFuture<ReportPage> createAsync(Path path, RowWindow window) {
+        return CompletableFuture.supplyAsync(() -> create(path, window), getAsyncExecutor());
+    }
+
+    /**
+     * Asynchronous version of {@link #create(Path, Integer, RowWindow)}.
+     *
+     * @throws java.util.concurrent.RejectedExecutionException if executor rejects the task
+     */
+    default CompletableFuture<ReportPage> createAsync(Path path, Integer sheetNumber, RowWindow window) {
+        return CompletableFuture.supplyAsync(() -> create(path, sheetNumber, window), getAsyncExecutor());
+    }
+
+    /**
+     * Asynchronous version of {@link #create(Path, String, RowWindow)}.
+     *
+     * @throws java.util.concurrent.RejectedExecutionException if executor rejects the task
+     */
+    default CompletableFuture<ReportPage> createAsync(Path path, String sheetName, RowWindow window) {
+        return CompletableFuture.supplyAsync(() -> create(path, sheetName, window), getAsyncExecutor());
+    }
+
+    /**
+     * Asynchronous version of {@link #create(InputStream)}.
+     * InputStream is read by executor thread, it shouldn't be closed before the future completion.
+     *
+     * @throws java.util.concurrent.RejectedExecutionException if executor rejects the task
+     */
+    default CompletableFuture<ReportPage> createAsync(InputStream is) {
+        return CompletableFuture.supplyAsync(() -> create(is), getAsyncExecutor());
+    }
+
+    /**
+     * Asynchronous version of {@link #create(InputStream, Integer)}.
+     * InputStream is read by executor thread, it shouldn't be closed before the future completion.
+     *
+     * @throws java.util.concurrent.RejectedExecutionException if executor rejects the task
+     */
+    default CompletableFuture<ReportPage> createAsync(InputStream is, Integer sheetNumber) {
+        return CompletableFuture.supplyAsync(() -> create(is, sheetNumber), getAsyncExecutor());
+    }
+
+    /**
+     * Asynchronous version of {@link #create(InputStream, String)}.
+     * InputStream is read by executor thread, it shouldn't be closed before the future completion.
+     *
+     * @throws java.util.concurrent.RejectedExecutionException if executor rejects the task
+     */
+    default CompletableFuture<ReportPage> createAsync(InputStream is, String sheetName) {
+        return CompletableFuture.supplyAsync(() -> create(is, sheetName), getAsyncExecutor());
+    }
+
+    /**
+     * Asynchronous version of {@link #createAll(InputStream)}.
+     * InputStream is read by executor thread, it shouldn't be closed before the future completion.
+     *
+     * @throws java.util.concurrent.RejectedExecutionException if executor rejects the task
+     */
+    default CompletableFuture<Map<String, ReportPage>> createAllAsync(InputStream is) {
+        return CompletableFuture.supplyAsync(() -> createAll(is), getAsyncExecutor());
+    }
+
+    /**
+     * Asynchronous version of {@link #create(InputStream, Collection)}.
+     * InputStream is read by executor thread, it shouldn't be closed before the future completion.
+     *
+     * @throws java.util.concurrent.RejectedExecutionException if executor rejects the task
+     */
+    default CompletableFuture<Map<Object, ReportPage>> createAsync(InputStream is, Collection<?> sheetIds) {
+        return CompletableFuture.supplyAsync(() -> create(is, sheetIds), getAsyncExecutor());
+    }
+
+    /**
+     * Asynchronous version of {@link #create(InputStream, RowWindow)}.
+     * InputStream is read by executor thread, it shouldn't be closed before the future completion.
+     *
+     * @throws java.util.concurrent.RejectedExecutionException if executor rejects the task
+     */
+    default CompletableFuture<ReportPage> createAsync(InputStream is, RowWindow window) {
+        return CompletableFuture.supplyAsync(() -> create(is, window), getAsyncExecutor());
+    }
+
+    /**
+     * Asynchronous version of {@link #create(InputStream, Integer, RowWindow)}.
+     * InputStream is read by executor thread, it shouldn't be closed before the future completion.
+     *
+     * @throws java.util.concurrent.RejectedExecutionException if executor rejects the task
+     */
+    default CompletableFuture<ReportPage> createAsync(InputStream is, Integer sheetNumber, RowWindow window) {
+        return CompletableFuture.supplyAsync(() -> create(is, sheetNumber, window), getAsyncExecutor());
+    }
+
+    /**
+     * Asynchronous version of {@link #create(InputStream, String, RowWindow)}.
+     * InputStream is read by executor thread, it shouldn't be closed before the future completion.
+     *
+     * @throws java.util.concurrent.RejectedExecutionException if executor rejects the task
+     */
+    default CompletableFuture<ReportPage> createAsync(InputStream is, String sheetName, RowWindow window) {
+        return CompletableFuture.supplyAsync(() -> create(is, sheetName, window), getAsyncExecutor());
+    }
+
+    /**
+     * @implSpec Does not close InputStream
+     */
+    private static byte[] readAllBytes(InputStream is) {
+        try {
+            return is.readAllBytes();
+        } catch (IOException e) {
+            throw new ReportPageInstantiationException("Can't read data", e);
+        }
+    }
 }
@@ -0,0 +1,68 @@
+/*
+ * Table Wrapper Spring Boot Starter
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.autoconfigure;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+import org.spacious_team.table_wrapper.api.ReportPage;
+
+import java.util.List;
+
+import static lombok.AccessLevel.PACKAGE;
+
+/**
+ * ReportPage with the resources it depends on, such as Excel workbook object model or memory-mapped file.
+ * Closing releases resources deterministically instead of waiting for garbage collection,
+ * ReportPage and tables created from it shouldn't be used after closing.
+ * Workbooks shared by cache are not released, memory-mapped file is released by garbage collector.
+ */
+@Slf4j
+@ToString(of = "reportPage")
+@RequiredArgsConstructor(access = PACKAGE)
+public class ReportPageHandle implements AutoCloseable {
+
+    @Getter
+    private final ReportPage reportPage;
+    private final List<AutoCloseable> resources;
+    private boolean isClosed = false;
+
+    /**
+     * Releases resources, resource release failures are logged. Repeated calls have no effect.
+     */
+    @Override
+    public synchronized void close() {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        release(resources);
+    }
+
+    static void release(List<AutoCloseable> resources) {
+        for (AutoCloseable resource : resources) {
+            try {
+                resource.close();
+            } catch (Exception e) {
+                log.warn("Can't release ReportPage resource {}", resource, e);
+            }
+        }
+    }
+}
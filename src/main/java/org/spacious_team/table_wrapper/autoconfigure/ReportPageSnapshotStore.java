@@ -0,0 +1,275 @@
+/*
+ * Table Wrapper Spring Boot Starter
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.autoconfigure;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.net.URLEncoder;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Persists {@link CompactReportPage} snapshots of file sheets to binary files, so unchanged files
+ * are not parsed again, for example after application restart. Snapshot file is memory-mapped
+ * and used without copying cell values to heap.
+ * <p>
+ * Snapshot is used if its source file size, last modified time and file key are not changed.
+ * If only size is not changed, for example the file is copied or touched, source content hash is compared.
+ * Content hash may be compared on each snapshot use, if last modified time is not reliable.
+ * Snapshot files are written to the snapshot directory, a snapshot which can't be written is logged and skipped.
+ */
+@Slf4j
+public class ReportPageSnapshotStore {
+
+    private static final String FILE_EXTENSION = ".twsnapshot";
+    private static final int MAGIC = 0x54575350;  // "TWSP"
+    private static final int VERSION = 2;
+    private static final int HASH_SIZE = 32;
+    private final Path directory;
+    private final boolean isContentHashValidated;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Creates store writing snapshots to the {@link #getDefaultDirectory() default directory}.
+     */
+    public ReportPageSnapshotStore() {
+        this(getDefaultDirectory());
+    }
+
+    /**
+     * @param directory directory of snapshot files, created if not exists
+     */
+    public ReportPageSnapshotStore(Path directory) {
+        this(directory, false);
+    }
+
+    /**
+     * @param directory              directory of snapshot files, created if not exists
+     * @param isContentHashValidated whether source content hash is compared on each snapshot use,
+     *                               otherwise only if source last modified time or file key is changed
+     */
+    public ReportPageSnapshotStore(Path directory, boolean isContentHashValidated) {
+        this.directory = directory;
+        this.isContentHashValidated = isContentHashValidated;
+    }
+
+    /**
+     * Returns "table-wrapper-snapshots" subdirectory of the system temporary directory.
+     */
+    public static Path getDefaultDirectory() {
+        return Path.of(System.getProperty("java.io.tmpdir"), "table-wrapper-snapshots");
+    }
+
+    /**
+     * Returns valid snapshot or creates and persists it.
+     *
+     * @param creator creates snapshot of the source file sheet
+     */
+    CompactReportPage get(Path source, Object sheetId, Callable<CompactReportPage> creator) throws Exception {
+        Path snapshot = getSnapshotPath(source, sheetId);
+        BasicFileAttributes attributes = readAttributes(source);
+        @Nullable StoredSnapshot stored = read(snapshot);
+        if (stored != null && stored.sourceInfo.size == attributes.size()) {
+            boolean isSameFile = stored.sourceInfo.isSameFile(attributes);
+            if ((isSameFile && !isContentHashValidated) || stored.sourceInfo.hasSameContent(source)) {
+                hits.increment();
+                if (!isSameFile) {  // content hash is not calculated by the next call
+                    write(snapshot, SourceInfo.of(attributes, stored.sourceInfo.contentHash), stored.reportPage);
+                }
+                return stored.reportPage;
+            }
+        }
+        misses.increment();
+        CompactReportPage reportPage = creator.call();
+        if (isSameFile(attributes, readAttributes(source))) {  // source is not modified while parsing
+            write(snapshot, SourceInfo.of(source, attributes), reportPage);
+        }
+        return reportPage;
+    }
+
+    /**
+     * Returns snapshot file path of the file's sheet.
+     *
+     * @implNote File name contains SHA-256 of the source path, so sources with the same file names
+     * don't share a snapshot file
+     */
+    public Path getSnapshotPath(Path source, Object sheetId) {
+        Path absoluteSource = source.toAbsolutePath().normalize();
+        String sourceFileName = String.valueOf(absoluteSource.getFileName());
+        String sheet = (sheetId instanceof Integer) ?
+                String.valueOf(sheetId) :
+                "'" + URLEncoder.encode(String.valueOf(sheetId), UTF_8) + "'";
+        String pathHash = String.format("%064x", ContentHash.of(absoluteSource.toString()));
+        return directory.resolve(sourceFileName + "-" + pathHash + "." + sheet + FILE_EXTENSION);
+    }
+
+    private static BasicFileAttributes readAttributes(Path path) throws IOException {
+        return Files.readAttributes(path, BasicFileAttributes.class);
+    }
+
+    private static boolean isSameFile(BasicFileAttributes attributes, BasicFileAttributes other) {
+        return attributes.size() == other.size() &&
+                attributes.lastModifiedTime().equals(other.lastModifiedTime());
+    }
+
+    /**
+     * @return snapshot or null if snapshot doesn't exist or is corrupted
+     */
+    private static @Nullable StoredSnapshot read(Path snapshot) {
+        if (!Files.isRegularFile(snapshot)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(snapshot, READ)) {  // mapping remains valid after closing
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                return null;
+            }
+            SourceInfo sourceInfo = SourceInfo.read(buffer);
+            CompactReportPage reportPage = CompactReportPage.read(buffer);
+            return buffer.hasRemaining() ? null : new StoredSnapshot(sourceInfo, reportPage);
+        } catch (Exception e) {
+            log.debug("Can't read ReportPage snapshot {}", snapshot, e);
+            return null;
+        }
+    }
+
+    private static void write(Path snapshot, SourceInfo sourceInfo, CompactReportPage reportPage) {
+        try {
+            Path parent = requireNonNull(snapshot.getParent());
+            Files.createDirectories(parent);
+            Path tempFile = Files.createTempFile(parent, "table-wrapper-", ".tmp");
+            try {
+                OutputStream os = Files.newOutputStream(tempFile);
+                try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(os))) {
+                    out.writeInt(MAGIC);
+                    out.writeInt(VERSION);
+                    sourceInfo.write(out);
+                    reportPage.write(out);
+                }
+                Files.move(tempFile, snapshot, ATOMIC_MOVE, REPLACE_EXISTING);  // concurrent readers see complete file
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+        } catch (Exception e) {
+            log.warn("Can't write ReportPage snapshot {}", snapshot, e);
+        }
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    @RequiredArgsConstructor
+    private static final class StoredSnapshot {
+        private final SourceInfo sourceInfo;
+        private final CompactReportPage reportPage;
+    }
+
+    /**
+     * Source file size, last modified time, file key hash and content hash, 88 bytes long with the preceding header,
+     * so the following page data are 8-byte aligned.
+     */
+    @RequiredArgsConstructor
+    private static final class SourceInfo {
+        private final long size;
+        private final long lastModified;
+        private final byte[] fileKeyHash;
+        private final byte[] contentHash;
+
+        static SourceInfo of(Path source, BasicFileAttributes attributes) throws IOException {
+            return of(attributes, toBytes(ContentHash.of(source)));
+        }
+
+        static SourceInfo of(BasicFileAttributes attributes, byte[] contentHash) {
+            long lastModified = attributes.lastModifiedTime().toMillis();
+            return new SourceInfo(attributes.size(), lastModified, getFileKeyHash(attributes), contentHash);
+        }
+
+        /**
+         * @return zero bytes if file key is not supported by file system
+         */
+        private static byte[] getFileKeyHash(BasicFileAttributes attributes) {
+            @Nullable Object fileKey = attributes.fileKey();
+            return (fileKey == null) ? new byte[HASH_SIZE] : toBytes(ContentHash.of(fileKey.toString()));
+        }
+
+        private static byte[] toBytes(BigInteger hash) {
+            byte[] bytes = hash.toByteArray();  // may have leading sign byte or miss leading zero bytes
+            byte[] result = new byte[HASH_SIZE];
+            int length = Math.min(bytes.length, HASH_SIZE);
+            System.arraycopy(bytes, bytes.length - length, result, HASH_SIZE - length, length);
+            return result;
+        }
+
+        /**
+         * @return true if file size, last modified time and file key are not changed
+         */
+        boolean isSameFile(BasicFileAttributes attributes) {
+            return size == attributes.size() &&
+                    lastModified == attributes.lastModifiedTime().toMillis() &&
+                    Arrays.equals(fileKeyHash, getFileKeyHash(attributes));
+        }
+
+        boolean hasSameContent(Path source) throws IOException {
+            return Arrays.equals(contentHash, toBytes(ContentHash.of(source)));
+        }
+
+        static SourceInfo read(ByteBuffer buffer) {
+            long size = buffer.getLong();
+            long lastModified = buffer.getLong();
+            byte[] fileKeyHash = new byte[HASH_SIZE];
+            buffer.get(fileKeyHash);
+            byte[] contentHash = new byte[HASH_SIZE];
+            buffer.get(contentHash);
+            return new SourceInfo(size, lastModified, fileKeyHash, contentHash);
+        }
+
+        void write(DataOutputStream out) throws IOException {
+            out.writeLong(size);
+            out.writeLong(lastModified);
+            out.write(fileKeyHash);
+            out.write(contentHash);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Table Wrapper Spring Boot Starter
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.autoconfigure;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.util.Assert;
+
+/**
+ * Range of 0-based sheet rows to read. Reading of a sheet is stopped once the window is filled.
+ * Rows before the window are empty in the created ReportPage, so cell addresses are not shifted.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public final class RowWindow {
+
+    private final int firstRow;
+    private final int maxRows;
+
+    private RowWindow(int firstRow, int maxRows) {
+        Assert.isTrue(firstRow >= 0, "First row should not be negative");
+        Assert.isTrue(maxRows > 0, "Max rows should be positive");
+        this.firstRow = firstRow;
+        this.maxRows = maxRows;
+    }
+
+    /**
+     * @param firstRow 0-based number of the first row to read
+     * @param maxRows  maximum number of rows to read
+     */
+    public static RowWindow of(int firstRow, int maxRows) {
+        return new RowWindow(firstRow, maxRows);
+    }
+
+    /**
+     * Returns window of the sheet's first rows, for example to probe a report header.
+     */
+    public static RowWindow firstRows(int maxRows) {
+        return new RowWindow(0, maxRows);
+    }
+
+    /**
+     * Returns 0-based number of the row following the window.
+     */
+    public int getEndRow() {
+        return (int) Math.min((long) firstRow + maxRows, Integer.MAX_VALUE);
+    }
+
+    boolean contains(int rowNum) {
+        return rowNum >= firstRow && rowNum < getEndRow();
+    }
+}
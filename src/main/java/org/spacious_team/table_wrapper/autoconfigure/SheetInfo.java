@@ -0,0 +1,59 @@
+/*
+ * Table Wrapper Spring Boot Starter
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.autoconfigure;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Workbook sheet metadata read without parsing sheet data.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor
+public class SheetInfo {
+
+    /**
+     * Value of unknown dimension
+     */
+    public static final int UNKNOWN = -1;
+    /**
+     * 0-based sheet number
+     */
+    private final int index;
+    /**
+     * Sheet name, empty for csv data
+     */
+    private final String name;
+    /**
+     * Number of rows up to the last used row or {@link #UNKNOWN} if the format doesn't store it in metadata
+     */
+    private final int rowCount;
+    /**
+     * Number of columns up to the last used column or {@link #UNKNOWN} if the format doesn't store it in metadata
+     */
+    private final int columnCount;
+
+    static SheetInfo of(int index, String name) {
+        return new SheetInfo(index, name, UNKNOWN, UNKNOWN);
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Table Wrapper Spring Boot Starter
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.autoconfigure;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spacious_team.table_wrapper.api.ReportPage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Selects sheets by identifiers (0-based sheet numbers or sheet names) while a workbook's sheets are iterated
+ * and optionally the window of rows to read.
+ * Selector instance remembers found sheets and shouldn't be reused.
+ */
+@RequiredArgsConstructor(access = PRIVATE)
+final class SheetSelector {
+
+    /**
+     * Null value selects all sheets
+     */
+    private final @Nullable List<Object> sheetIds;
+    /**
+     * Null value selects all rows
+     */
+    @Getter
+    private final @Nullable RowWindow rowWindow;
+    private final Set<Object> foundSheetIds = new HashSet<>();
+
+    static SheetSelector of(Object sheetId) {
+        return of(sheetId, null);
+    }
+
+    static SheetSelector of(Object sheetId, @Nullable RowWindow rowWindow) {
+        return new SheetSelector(Collections.singletonList(sheetId), rowWindow);
+    }
+
+    static SheetSelector of(Collection<?> sheetIds) {
+        return new SheetSelector(Collections.unmodifiableList(new ArrayList<>(sheetIds)), null);
+    }
+
+    static SheetSelector all() {
+        return new SheetSelector(null, null);
+    }
+
+    /**
+     * Returns requested sheet identifiers and row window, equal for equal selectors.
+     */
+    Object getSelection() {
+        return Arrays.asList(sheetIds, rowWindow);
+    }
+
+    /**
+     * Creates cell store of the selected rows for streaming parsers.
+     */
+    CellStore newCellStore() {
+        return new CellStore(rowWindow);
+    }
+
+    /**
+     * Checks requested sheet identifiers. Not required for CSV data which has the only one sheet.
+     *
+     * @throws ReportPageInstantiationException if sheet identifier type is not supported
+     */
+    void checkSheetIdTypes() {
+        if (sheetIds != null) {
+            sheetIds.forEach(SheetSelector::checkSheetIdType);
+        }
+    }
+
+    private static void checkSheetIdType(@Nullable Object sheetId) {
+        if (!(sheetId instanceof Integer) && !(sheetId instanceof CharSequence)) {
+            String sheetIdType = (sheetId == null) ? "null" : sheetId.getClass().getSimpleName();
+            throw new ReportPageInstantiationException("Unexpected Excel Sheet identifier type:" + sheetIdType);
+        }
+    }
+
+    static boolean matches(Object sheetId, int sheetIndex, String sheetName) {
+        if (sheetId instanceof Integer) {
+            return (Integer) sheetId == sheetIndex;
+        } else if (sheetId instanceof CharSequence) {
+            return sheetName.equalsIgnoreCase(String.valueOf(sheetId));
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if the sheet should be read.
+     */
+    boolean select(int sheetIndex, String sheetName) {
+        if (sheetIds == null) {
+            return true;
+        }
+        boolean isSelected = false;
+        for (Object sheetId : sheetIds) {
+            if (matches(sheetId, sheetIndex, sheetName)) {
+                foundSheetIds.add(sheetId);
+                isSelected = true;
+            }
+        }
+        return isSelected;
+    }
+
+    /**
+     * Returns true if all requested sheets are found, the rest of workbook can be skipped.
+     */
+    boolean isCompleted() {
+        return sheetIds != null && foundSheetIds.containsAll(sheetIds);
+    }
+
+    /**
+     * Returns requested sheet identifiers to report pages ordered map.
+     * For the selector of all sheets map keys are sheet names.
+     *
+     * @param pages found sheets
+     * @throws IllegalArgumentException if some requested sheet is not found
+     */
+    Map<Object, ReportPage> toMap(List<SheetPage> pages) {
+        Map<Object, ReportPage> result = new LinkedHashMap<>();
+        if (sheetIds == null) {
+            pages.forEach(page -> result.put(page.getSheetName(), page.getReportPage()));
+            return result;
+        }
+        for (Object sheetId : sheetIds) {
+            ReportPage reportPage = pages.stream()
+                    .filter(page -> matches(sheetId, page.getSheetIndex(), page.getSheetName()))
+                    .map(SheetPage::getReportPage)
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Sheet not found: " + sheetId));
+            result.put(sheetId, reportPage);
+        }
+        return result;
+    }
+
+    /**
+     * Returns requested sheet identifiers to the only report page map.
+     * For the selector of all sheets map key is empty string.
+     */
+    Map<Object, ReportPage> toMap(ReportPage singlePage) {
+        Map<Object, ReportPage> result = new LinkedHashMap<>();
+        if (sheetIds == null) {
+            result.put("", singlePage);
+        } else {
+            sheetIds.forEach(sheetId -> result.put(sheetId, singlePage));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Table Wrapper Spring Boot Starter
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.autoconfigure;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spacious_team.table_wrapper.autoconfigure.DefaultReportPageFactory.KnownFileExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static java.util.Objects.requireNonNull;
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Input data buffered in memory or spooled to a temporary file if its size exceeds the in-memory threshold.
+ * Temporary file is deleted on close.
+ */
+@Slf4j
+@RequiredArgsConstructor(access = PRIVATE)
+final class SpooledInput implements Closeable {
+
+    private static final String TEMP_FILE_PREFIX = "table-wrapper-";
+    private final @Nullable ByteArrayInputStream bytes;
+    private final @Nullable Path file;
+    /**
+     * Data size in bytes
+     */
+    @Getter
+    private final long size;
+
+    /**
+     * Buffers data in memory if its size doesn't exceed {@code inMemoryThreshold}, otherwise spools data
+     * to a temporary file. {@link ByteArrayInputStream} data is used as is.
+     *
+     * @implSpec Does not close InputStream
+     */
+    static SpooledInput of(InputStream is, int inMemoryThreshold) throws IOException {
+        if (is.getClass() == ByteArrayInputStream.class) {
+            ByteArrayInputStream bais = (ByteArrayInputStream) is;
+            return new SpooledInput(bais, null, bais.available());  // already in memory
+        }
+        int limit = (inMemoryThreshold == Integer.MAX_VALUE) ? inMemoryThreshold : inMemoryThreshold + 1;
+        byte[] head = is.readNBytes(limit);
+        if (head.length <= inMemoryThreshold) {
+            return new SpooledInput(new ByteArrayInputStream(head), null, head.length);
+        }
+        Path file = Files.createTempFile(TEMP_FILE_PREFIX, ".tmp");
+        try (OutputStream out = Files.newOutputStream(file)) {
+            out.write(head);
+            is.transferTo(out);
+        } catch (Exception e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        return new SpooledInput(null, file, Files.size(file));
+    }
+
+    boolean isSpooled() {
+        return file != null;
+    }
+
+    ByteArrayInputStream getBytes() {
+        return requireNonNull(bytes, "Data is spooled to file");
+    }
+
+    Path getFile() {
+        return requireNonNull(file, "Data is buffered in memory");
+    }
+
+    /**
+     * @return detected format, CSV for any unrecognized data or {@code null} if format is ambiguous
+     */
+    @Nullable
+    KnownFileExtension detectFormat(int windowSize) throws IOException {
+        if (file == null) {
+            return FileFormatDetector.detect(getBytes(), windowSize);
+        }
+        try (InputStream in = Files.newInputStream(file)) {
+            byte[] head = in.readNBytes(windowSize);
+            return FileFormatDetector.detect(head, head.length);
+        }
+    }
+
+    /**
+     * Prepares data for the next parsing attempt.
+     */
+    void reset() {
+        if (bytes != null) {
+            bytes.reset();
+        }
+    }
+
+    /**
+     * @implSpec Deletes temporary file
+     */
+    @Override
+    public void close() {
+        if (file != null) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("Can't delete temporary file {}", file, e);
+            }
+        }
+    }
+}
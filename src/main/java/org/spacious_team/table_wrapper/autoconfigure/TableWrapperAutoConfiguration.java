@@ -19,7 +19,11 @@
 package org.spacious_team.table_wrapper.autoconfigure;
 
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.NoArgsConstructor;
+import org.apache.poi.openxml4j.util.ZipSecureFile;
+import org.apache.poi.util.IOUtils;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spacious_team.table_wrapper.api.TableFactoryRegistry;
 import org.spacious_team.table_wrapper.csv.CsvReportPage;
 import org.spacious_team.table_wrapper.csv.CsvTableFactory;
@@ -27,27 +31,73 @@ import org.spacious_team.table_wrapper.excel.ExcelSheet;
 import org.spacious_team.table_wrapper.excel.ExcelTableFactory;
 import org.spacious_team.table_wrapper.xml.XmlReportPage;
 import org.spacious_team.table_wrapper.xml.XmlTableFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.unit.DataSize;
 
+import java.nio.file.Path;
+import java.util.concurrent.Executor;
 import java.util.stream.Stream;
 
 import static lombok.AccessLevel.PRIVATE;
 
-@AutoConfiguration
+@AutoConfiguration(
+        after = TaskExecutionAutoConfiguration.class,  // not to replace Spring Boot's default executor
+        afterName = "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration")
 @SuppressWarnings("unused")
 @NoArgsConstructor(access = PRIVATE)
 @ConditionalOnClass(TableFactoryRegistry.class)
 public class TableWrapperAutoConfiguration {
 
+    /**
+     * Name of the optional {@link Executor} bean used for batch ReportPage creation
+     */
+    public static final String BATCH_EXECUTOR_BEAN_NAME = "tableWrapperBatchExecutor";
+    /**
+     * Name of the {@link TaskExecutor} bean used for asynchronous ReportPage creation.
+     * The bean is not an autowire candidate, so it doesn't replace application's executor injected by type
+     */
+    public static final String TASK_EXECUTOR_BEAN_NAME = "tableWrapperTaskExecutor";
+
     @Configuration(proxyBeanMethods = false)
     @ConditionalOnClass(ExcelTableFactory.class)
+    @EnableConfigurationProperties(TableWrapperProperties.class)
     public static class TableWrapperExcelConfiguration {
 
+        /**
+         * @implNote Apache POI limits are global, they are applied once the configuration is instantiated
+         */
+        public TableWrapperExcelConfiguration(TableWrapperProperties properties) {
+            TableWrapperProperties.PoiProperties poi = properties.getPoi();
+            @Nullable Double zipMinInflateRatio = poi.getZipMinInflateRatio();
+            if (zipMinInflateRatio != null) {
+                ZipSecureFile.setMinInflateRatio(zipMinInflateRatio);
+            }
+            @Nullable DataSize zipMaxEntrySize = poi.getZipMaxEntrySize();
+            if (zipMaxEntrySize != null) {
+                ZipSecureFile.setMaxEntrySize(zipMaxEntrySize.toBytes());
+            }
+            @Nullable DataSize zipMaxTextSize = poi.getZipMaxTextSize();
+            if (zipMaxTextSize != null) {
+                ZipSecureFile.setMaxTextSize(zipMaxTextSize.toBytes());
+            }
+            @Nullable DataSize maxByteArraySize = poi.getMaxByteArraySize();
+            if (maxByteArraySize != null) {
+                IOUtils.setByteArrayMaxOverride(toIntBytes(maxByteArraySize));
+            }
+        }
+
         @Bean
         @ConditionalOnMissingBean
         public ExcelTableFactory excelTableFactory() {
@@ -85,17 +135,95 @@ public class TableWrapperAutoConfiguration {
         }
     }
 
+    @Configuration(proxyBeanMethods = false)
+    @EnableConfigurationProperties(TableWrapperProperties.class)
+    public static class TableWrapperTaskExecutorConfiguration {
+
+        @Bean(name = TASK_EXECUTOR_BEAN_NAME, autowireCandidate = false)
+        @ConditionalOnMissingBean(name = TASK_EXECUTOR_BEAN_NAME)
+        public ThreadPoolTaskExecutor tableWrapperTaskExecutor(TableWrapperProperties properties) {
+            TableWrapperProperties.ExecutorProperties executorProperties = properties.getExecutor();
+            ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+            executor.setCorePoolSize(executorProperties.getCoreSize());
+            executor.setMaxPoolSize(executorProperties.getMaxSize());
+            executor.setQueueCapacity(executorProperties.getQueueCapacity());
+            executor.setKeepAliveSeconds((int) executorProperties.getKeepAlive().toSeconds());
+            executor.setThreadNamePrefix(executorProperties.getThreadNamePrefix());
+            return executor;
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterRegistry.class)
+    @ConditionalOnBean(MeterRegistry.class)
+    public static class TableWrapperMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public ReportPageCreationListener micrometerReportPageCreationListener(MeterRegistry registry) {
+            return new MicrometerReportPageCreationListener(registry);
+        }
+    }
+
     @Configuration(proxyBeanMethods = false)
     @ConditionalOnClass(DefaultContextAwareReportPageFactory.class)
+    @EnableConfigurationProperties(TableWrapperProperties.class)
     public static class TableWrapperConfiguration {
 
         @Bean
         @ConditionalOnMissingBean
-        public ContextAwareReportPageFactory defaultContextAwareReportPageFactory(ApplicationContext context) {
+        public ContextAwareReportPageFactory defaultContextAwareReportPageFactory(
+                ApplicationContext context,
+                TableWrapperProperties properties,
+                @Qualifier(BATCH_EXECUTOR_BEAN_NAME) ObjectProvider<Executor> batchExecutor,
+                ObjectProvider<ReportPageCreationListener> creationListener) {
             DefaultContextAwareReportPageFactory factory = new DefaultContextAwareReportPageFactory(context);
             Stream.of(ExcelSheet.class, XmlReportPage.class, CsvReportPage.class)
                     .forEach(factory::registerBeanDefinition);
+            factory.setInMemoryThreshold(toIntBytes(properties.getInMemoryThreshold()));
+            factory.setFormatDetectionWindowSize(toIntBytes(properties.getFormatDetectionWindow()));
+            factory.setXlsEngine(properties.getEngine().getXls());
+            factory.setXlsxEngine(properties.getEngine().getXlsx());
+            factory.setXmlEngine(properties.getEngine().getXml());
+            factory.setXlsStreamingThreshold(properties.getEngine().getXlsStreamingThreshold().toBytes());
+            factory.setXlsxStreamingThreshold(properties.getEngine().getXlsxStreamingThreshold().toBytes());
+            factory.setXmlStreamingThreshold(properties.getEngine().getXmlStreamingThreshold().toBytes());
+            factory.setMemoryMappedCsv(properties.getCsv().isMemoryMapped());
+            factory.setCompactReportPages(properties.isCompactReportPages());
+            factory.setIndexedReportPages(properties.isIndexedReportPages());
+            factory.setBatchParallelism(properties.getBatch().getParallelism());
+            TableWrapperProperties.WorkbookCacheProperties cache = properties.getWorkbookCache();
+            if (cache.isEnabled()) {
+                factory.setWorkbookCache(new WorkbookCache(
+                        cache.getMaxEntries(), cache.getMaxWeight().toBytes(), cache.getTimeToLive()));
+            }
+            TableWrapperProperties.ReportPageCacheProperties pageCache = properties.getReportPageCache();
+            if (pageCache.isEnabled()) {
+                factory.setReportPageCache(new ReportPageCache(
+                        pageCache.getMaxEntries(), pageCache.getMaxWeight().toBytes(), pageCache.getTimeToLive()));
+            }
+            TableWrapperProperties.SnapshotStoreProperties snapshotStore = properties.getSnapshotStore();
+            if (snapshotStore.isEnabled()) {
+                @Nullable Path directory = snapshotStore.getDirectory();
+                factory.setSnapshotStore(new ReportPageSnapshotStore(
+                        (directory == null) ? ReportPageSnapshotStore.getDefaultDirectory() : directory,
+                        snapshotStore.isContentHashValidated()));
+            }
+            TableWrapperProperties.MemoryBudgetProperties budget = properties.getMemoryBudget();
+            if (budget.isEnabled()) {
+                factory.setMemoryBudget(new MemoryBudget(
+                        budget.getMaxSize().toBytes(), budget.getMaxWait(), budget.getExhaustionPolicy()));
+            }
+            batchExecutor.ifAvailable(factory::setBatchExecutor);
+            if (context.containsBean(TASK_EXECUTOR_BEAN_NAME)) {  // not autowire candidate, looked up by name
+                factory.setAsyncExecutor(context.getBean(TASK_EXECUTOR_BEAN_NAME, Executor.class));
+            }
+            creationListener.ifUnique(factory::setCreationListener);
             return factory;
         }
     }
+
+    private static int toIntBytes(DataSize size) {
+        return (int) Math.min(size.toBytes(), Integer.MAX_VALUE);
+    }
 }
@@ -0,0 +1,354 @@
+/*
+ * Table Wrapper Spring Boot Starter
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.autoconfigure;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spacious_team.table_wrapper.autoconfigure.MemoryBudget.ExhaustionPolicy;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.Assert;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * @implNote Numeric values are checked by setters, so an invalid value fails binding of its property
+ * instead of ReportPage factory creation
+ */
+@Getter
+@Setter
+@ConfigurationProperties("table-wrapper")
+public class TableWrapperProperties {
+
+    /**
+     * Maximum size of InputStream data buffered in memory, larger data is spooled to a temporary file
+     */
+    private DataSize inMemoryThreshold = DataSize.ofMegabytes(32);
+    /**
+     * Size of InputStream data head used for data format detection by magic bytes
+     */
+    private DataSize formatDetectionWindow = DataSize.ofKilobytes(8);
+    /**
+     * Whether created ReportPages are compact immutable snapshots read by streaming engine,
+     * their cell values are strings
+     */
+    private boolean compactReportPages = false;
+    /**
+     * Whether created ReportPages are compact snapshots searching texts by index,
+     * speeds up creation of many tables from one ReportPage
+     */
+    private boolean indexedReportPages = false;
+    /**
+     * Parser engines
+     */
+    private final EngineProperties engine = new EngineProperties();
+    /**
+     * Csv files reading
+     */
+    private final CsvProperties csv = new CsvProperties();
+    /**
+     * Cache of parsed Excel and Xml workbooks
+     */
+    private final WorkbookCacheProperties workbookCache = new WorkbookCacheProperties();
+    /**
+     * Cache of ReportPages created from InputStream data, keyed by the data content hash
+     */
+    private final ReportPageCacheProperties reportPageCache = new ReportPageCacheProperties();
+    /**
+     * Persistent snapshots of Excel and Xml files' sheets
+     */
+    private final SnapshotStoreProperties snapshotStore = new SnapshotStoreProperties();
+    /**
+     * Limit of memory concurrently used by DOM parsers
+     */
+    private final MemoryBudgetProperties memoryBudget = new MemoryBudgetProperties();
+    /**
+     * Executor of asynchronous ReportPage creation
+     */
+    private final ExecutorProperties executor = new ExecutorProperties();
+    /**
+     * Batch ReportPage creation
+     */
+    private final BatchProperties batch = new BatchProperties();
+    /**
+     * Apache POI global limits, POI defaults are used if not set
+     */
+    private final PoiProperties poi = new PoiProperties();
+
+    public void setInMemoryThreshold(DataSize inMemoryThreshold) {
+        Assert.isTrue(inMemoryThreshold.toBytes() > 0, "In-memory threshold should be positive");
+        this.inMemoryThreshold = inMemoryThreshold;
+    }
+
+    public void setFormatDetectionWindow(DataSize formatDetectionWindow) {
+        Assert.isTrue(formatDetectionWindow.toBytes() > 0, "Format detection window should be positive");
+        this.formatDetectionWindow = formatDetectionWindow;
+    }
+
+    @Getter
+    @Setter
+    public static class EngineProperties {
+        /**
+         * Parser engine for xls files
+         */
+        private ParserEngine xls = ParserEngine.DOM;
+        /**
+         * Parser engine for xlsx files
+         */
+        private ParserEngine xlsx = ParserEngine.DOM;
+        /**
+         * Parser engine for SpreadsheetML (xml) files
+         */
+        private ParserEngine xml = ParserEngine.DOM;
+        /**
+         * Maximum xls data size parsed by DOM engine if AUTO engine is used
+         */
+        private DataSize xlsStreamingThreshold = DataSize.ofMegabytes(32);
+        /**
+         * Maximum xlsx data size parsed by DOM engine if AUTO engine is used
+         */
+        private DataSize xlsxStreamingThreshold = DataSize.ofMegabytes(8);
+        /**
+         * Maximum xml data size parsed by DOM engine if AUTO engine is used
+         */
+        private DataSize xmlStreamingThreshold = DataSize.ofMegabytes(32);
+    }
+
+    @Getter
+    @Setter
+    public static class CsvProperties {
+        /**
+         * Whether csv files are memory-mapped and decoded lazily. Mapped files are read with simplified format
+         * detection: only comma, semicolon, tab or vertical bar delimiter and double quote are recognized
+         */
+        private boolean memoryMapped = false;
+    }
+
+    @Getter
+    @Setter
+    public static class WorkbookCacheProperties {
+        /**
+         * Whether parsed workbooks are cached, ReportPages of cached workbooks are immutable snapshots
+         * and their cell values are strings
+         */
+        private boolean enabled = false;
+        /**
+         * Maximum number of cached workbooks
+         */
+        private int maxEntries = 16;
+        /**
+         * Maximum total size of cached workbooks' source data
+         */
+        private DataSize maxWeight = DataSize.ofMegabytes(64);
+        /**
+         * Time to live of the cached workbook since loading
+         */
+        private Duration timeToLive = Duration.ofMinutes(5);
+
+        public void setMaxEntries(int maxEntries) {
+            Assert.isTrue(maxEntries > 0, "Max entries should be positive");
+            this.maxEntries = maxEntries;
+        }
+
+        public void setMaxWeight(DataSize maxWeight) {
+            Assert.isTrue(maxWeight.toBytes() > 0, "Max weight should be positive");
+            this.maxWeight = maxWeight;
+        }
+
+        public void setTimeToLive(Duration timeToLive) {
+            Assert.isTrue(isPositive(timeToLive), "Time to live should be positive");
+            this.timeToLive = timeToLive;
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class ReportPageCacheProperties {
+        /**
+         * Whether ReportPages created from InputStream data are cached, cached ReportPages are created
+         * by streaming engine and their cell values are strings
+         */
+        private boolean enabled = false;
+        /**
+         * Maximum number of cached data
+         */
+        private int maxEntries = 64;
+        /**
+         * Maximum total size of cached ReportPages' source data
+         */
+        private DataSize maxWeight = DataSize.ofMegabytes(64);
+        /**
+         * Time to live of the cached ReportPages since loading
+         */
+        private Duration timeToLive = Duration.ofMinutes(30);
+
+        public void setMaxEntries(int maxEntries) {
+            Assert.isTrue(maxEntries > 0, "Max entries should be positive");
+            this.maxEntries = maxEntries;
+        }
+
+        public void setMaxWeight(DataSize maxWeight) {
+            Assert.isTrue(maxWeight.toBytes() > 0, "Max weight should be positive");
+            this.maxWeight = maxWeight;
+        }
+
+        public void setTimeToLive(Duration timeToLive) {
+            Assert.isTrue(isPositive(timeToLive), "Time to live should be positive");
+            this.timeToLive = timeToLive;
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class SnapshotStoreProperties {
+        /**
+         * Whether parsed sheets of files are persisted as binary snapshots and read back until the file is changed,
+         * cell values of the snapshots are strings
+         */
+        private boolean enabled = false;
+        /**
+         * Directory of snapshot files, "table-wrapper-snapshots" subdirectory of the system temporary directory
+         * if not set
+         */
+        private @Nullable Path directory = null;
+        /**
+         * Whether source file content hash is compared on each snapshot use, otherwise it is compared
+         * only if the file's last modified time or file key is changed
+         */
+        private boolean contentHashValidated = false;
+    }
+
+    @Getter
+    @Setter
+    public static class MemoryBudgetProperties {
+        /**
+         * Whether DOM parsings reserve estimated memory before start and wait while the budget is exhausted,
+         * memory of cached workbooks is reserved until their eviction
+         */
+        private boolean enabled = false;
+        /**
+         * Maximum total estimated memory of concurrent DOM parsings
+         */
+        private DataSize maxSize = DataSize.ofBytes(Runtime.getRuntime().maxMemory() / 2);
+        /**
+         * Maximum time to wait for memory reservation
+         */
+        private Duration maxWait = Duration.ofSeconds(30);
+        /**
+         * Action if memory is not reserved in time
+         */
+        private ExhaustionPolicy exhaustionPolicy = ExhaustionPolicy.STREAMING;
+
+        public void setMaxSize(DataSize maxSize) {
+            Assert.isTrue(maxSize.toBytes() > 0, "Max size should be positive");
+            this.maxSize = maxSize;
+        }
+
+        public void setMaxWait(Duration maxWait) {
+            Assert.isTrue(!maxWait.isNegative(), "Max wait should not be negative");
+            this.maxWait = maxWait;
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class ExecutorProperties {
+        /**
+         * Number of core threads
+         */
+        private int coreSize = 2;
+        /**
+         * Maximum number of threads
+         */
+        private int maxSize = Math.max(2, Runtime.getRuntime().availableProcessors());
+        /**
+         * Task queue capacity, tasks are rejected if the queue is full and all threads are busy
+         */
+        private int queueCapacity = 100;
+        /**
+         * Time limit for which threads above the core size may remain idle before being terminated
+         */
+        private Duration keepAlive = Duration.ofSeconds(60);
+        /**
+         * Prefix of the executor's thread names
+         */
+        private String threadNamePrefix = "table-wrapper-";
+
+        public void setCoreSize(int coreSize) {
+            Assert.isTrue(coreSize >= 0, "Core size should not be negative");
+            this.coreSize = coreSize;
+        }
+
+        public void setMaxSize(int maxSize) {
+            Assert.isTrue(maxSize > 0, "Max size should be positive");
+            this.maxSize = maxSize;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            Assert.isTrue(queueCapacity >= 0, "Queue capacity should not be negative");
+            this.queueCapacity = queueCapacity;
+        }
+
+        public void setKeepAlive(Duration keepAlive) {
+            Assert.isTrue(!keepAlive.isNegative(), "Keep alive should not be negative");
+            this.keepAlive = keepAlive;
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class BatchProperties {
+        /**
+         * Maximum number of concurrently created ReportPages of one batch
+         */
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+
+        public void setParallelism(int parallelism) {
+            Assert.isTrue(parallelism > 0, "Parallelism should be positive");
+            this.parallelism = parallelism;
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class PoiProperties {
+        /**
+         * Minimum ratio of compressed to uncompressed xlsx entry size (zip bomb protection)
+         */
+        private @Nullable Double zipMinInflateRatio = null;
+        /**
+         * Maximum uncompressed size of xlsx entry
+         */
+        private @Nullable DataSize zipMaxEntrySize = null;
+        /**
+         * Maximum size of text extracted from xlsx file
+         */
+        private @Nullable DataSize zipMaxTextSize = null;
+        /**
+         * Maximum size of byte array allocated by POI, overrides POI's per-record limits
+         */
+        private @Nullable DataSize maxByteArraySize = null;
+    }
+
+    private static boolean isPositive(Duration duration) {
+        return !duration.isNegative() && !duration.isZero();
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Table Wrapper Spring Boot Starter
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.autoconfigure;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.spacious_team.table_wrapper.autoconfigure.DefaultReportPageFactory.KnownFileExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Clock;
+import java.time.Duration;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Bounded LRU cache of parsed workbooks (Excel and Xml), allows to parse a file once
+ * and create report pages for each of its sheets.
+ * Entries are evicted by entry count, by total weight (the size of the source data in bytes)
+ * and after time-to-live expiration since loading.
+ * <p>
+ * Cached workbook object model is not thread-safe, so it is not exposed to the callers:
+ * report pages are created as immutable {@link CompactReportPage} snapshots of the cached workbook's sheets,
+ * their cell values are strings. Sheets are copied by one thread at a time.
+ */
+public class WorkbookCache extends BoundedCache<WorkbookCache.Key> {
+
+    /**
+     * @param maxEntries maximum number of cached workbooks
+     * @param maxWeight  maximum total size in bytes of cached workbooks' source data
+     * @param timeToLive time to live of the cached workbook since loading
+     */
+    public WorkbookCache(int maxEntries, long maxWeight, Duration timeToLive) {
+        this(maxEntries, maxWeight, timeToLive, Clock.systemUTC());
+    }
+
+    WorkbookCache(int maxEntries, long maxWeight, Duration timeToLive, Clock clock) {
+        super(maxEntries, maxWeight, timeToLive, clock);
+    }
+
+    @Override
+    long getWeight(Key key) {
+        return key.size;
+    }
+
+    @Getter
+    @ToString
+    @EqualsAndHashCode
+    @RequiredArgsConstructor(access = PRIVATE)
+    static final class Key {
+        /**
+         * Absolute file path or content hash
+         */
+        private final Object source;
+        private final long size;
+        private final long lastModified;
+        private final KnownFileExtension format;
+
+        static Key of(Path path, KnownFileExtension format) throws IOException {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            Path source = path.toAbsolutePath().normalize();
+            return new Key(source, attributes.size(), attributes.lastModifiedTime().toMillis(), format);
+        }
+
+        /**
+         * @implSpec Reads data and resets stream to the current position, doesn't close InputStream
+         */
+        static Key of(ByteArrayInputStream bais, KnownFileExtension format) {
+            return new Key(ContentHash.of(bais), bais.available(), 0, format);
+        }
+    }
+}
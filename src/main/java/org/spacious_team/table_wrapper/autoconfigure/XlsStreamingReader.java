@@ -0,0 +1,217 @@
+/*
+ * Table Wrapper Spring Boot Starter
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.autoconfigure;
+
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.apache.poi.hssf.eventusermodel.AbortableHSSFListener;
+import org.apache.poi.hssf.eventusermodel.FormatTrackingHSSFListener;
+import org.apache.poi.hssf.eventusermodel.HSSFEventFactory;
+import org.apache.poi.hssf.eventusermodel.HSSFRequest;
+import org.apache.poi.hssf.eventusermodel.HSSFUserException;
+import org.apache.poi.hssf.record.BOFRecord;
+import org.apache.poi.hssf.record.BoolErrRecord;
+import org.apache.poi.hssf.record.BoundSheetRecord;
+import org.apache.poi.hssf.record.CellValueRecordInterface;
+import org.apache.poi.hssf.record.DateWindow1904Record;
+import org.apache.poi.hssf.record.EOFRecord;
+import org.apache.poi.hssf.record.FormulaRecord;
+import org.apache.poi.hssf.record.LabelRecord;
+import org.apache.poi.hssf.record.LabelSSTRecord;
+import org.apache.poi.hssf.record.NumberRecord;
+import org.apache.poi.hssf.record.Record;
+import org.apache.poi.hssf.record.SSTRecord;
+import org.apache.poi.hssf.record.StringRecord;
+import org.apache.poi.poifs.filesystem.POIFSFileSystem;
+import org.apache.poi.ss.usermodel.CellType;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Reads selected sheets of xls file by HSSF event model. Records of the other sheets are not stored,
+ * reading is stopped at the end of the last requested sheet, workbook object model is not built.
+ */
+@NoArgsConstructor(access = PRIVATE)
+final class XlsStreamingReader {
+
+    private static final short CONTINUE = 0;
+    private static final short ABORT = 1;
+
+    /**
+     * @return selected sheets in workbook order
+     * @implSpec Does not close POIFSFileSystem
+     */
+    static List<SheetPage> read(POIFSFileSystem fs, SheetSelector selector) throws IOException, HSSFUserException {
+        CellStoreRecordListener listener = new CellStoreRecordListener(selector);
+        HSSFRequest request = new HSSFRequest();
+        request.addListenerForAllRecords(listener);
+        new HSSFEventFactory().abortableProcessWorkbookEvents(request, fs);
+        return listener.pages;
+    }
+
+    /**
+     * Reads BoundSheet records of the workbook globals only.
+     *
+     * @return sheets in workbook order
+     * @implSpec Does not close POIFSFileSystem
+     */
+    static List<SheetInfo> readSheets(POIFSFileSystem fs) throws IOException, HSSFUserException {
+        List<SheetInfo> sheets = new ArrayList<>();
+        HSSFRequest request = new HSSFRequest();
+        request.addListenerForAllRecords(new AbortableHSSFListener() {
+            @Override
+            public short abortableProcessRecord(Record record) {
+                if (record.getSid() == BoundSheetRecord.sid) {
+                    sheets.add(SheetInfo.of(sheets.size(), ((BoundSheetRecord) record).getSheetname()));
+                }
+                return (record.getSid() == EOFRecord.sid) ? ABORT : CONTINUE;  // end of workbook globals
+            }
+        });
+        new HSSFEventFactory().abortableProcessWorkbookEvents(request, fs);
+        return sheets;
+    }
+
+    @RequiredArgsConstructor
+    private static class CellStoreRecordListener extends AbortableHSSFListener {
+        private final SheetSelector selector;
+        private final List<SheetPage> pages = new ArrayList<>();
+        private CellStore cells = new CellStore();
+        private final FormatTrackingHSSFListener formats = new FormatTrackingHSSFListener(record -> {
+        });
+        private final List<String> sheetNames = new ArrayList<>();
+        private @Nullable SSTRecord sst = null;
+        private boolean use1904Windowing = false;
+        private int depth = 0;
+        private int sheetIndex = -1;
+        private String sheetName = "";
+        private boolean inRequestedSheet = false;
+        private @Nullable FormulaRecord stringFormula = null;
+
+        @Override
+        public short abortableProcessRecord(Record record) {
+            formats.processRecordInternally(record);
+            switch (record.getSid()) {
+                case BoundSheetRecord.sid:
+                    sheetNames.add(((BoundSheetRecord) record).getSheetname());
+                    break;
+                case SSTRecord.sid:
+                    sst = (SSTRecord) record;
+                    break;
+                case DateWindow1904Record.sid:
+                    use1904Windowing = ((DateWindow1904Record) record).getWindowing() == 1;
+                    break;
+                case BOFRecord.sid:
+                    // nested BOF are for charts embedded in a sheet
+                    if (depth++ == 0 && ((BOFRecord) record).getType() != BOFRecord.TYPE_WORKBOOK) {
+                        sheetIndex++;
+                        sheetName = (sheetIndex < sheetNames.size()) ? sheetNames.get(sheetIndex) : "";
+                        inRequestedSheet = selector.select(sheetIndex, sheetName);
+                        if (inRequestedSheet) {
+                            cells = selector.newCellStore();
+                        }
+                    }
+                    break;
+                case EOFRecord.sid:
+                    if (--depth == 0 && inRequestedSheet) {
+                        return completeSheet();
+                    }
+                    break;
+                default:
+                    if (inRequestedSheet && depth == 1) {
+                        if (record instanceof CellValueRecordInterface &&
+                                cells.isAfterWindow(((CellValueRecordInterface) record).getRow())) {
+                            return completeSheet();  // the rest of the sheet is skipped
+                        }
+                        processCellRecord(record);
+                    }
+            }
+            return CONTINUE;
+        }
+
+        private short completeSheet() {
+            pages.add(new SheetPage(sheetIndex, sheetName, cells.toReportPage()));
+            inRequestedSheet = false;
+            return selector.isCompleted() ? ABORT : CONTINUE;  // abort if all the requested sheets are read
+        }
+
+        private void processCellRecord(Record record) {
+            switch (record.getSid()) {
+                case LabelSSTRecord.sid:
+                    LabelSSTRecord labelSst = (LabelSSTRecord) record;
+                    if (sst != null) {
+                        setCell(labelSst, sst.getString(labelSst.getSSTIndex()).getString());
+                    }
+                    break;
+                case LabelRecord.sid:
+                    LabelRecord label = (LabelRecord) record;
+                    setCell(label, label.getValue());
+                    break;
+                case NumberRecord.sid:
+                    NumberRecord number = (NumberRecord) record;
+                    setCell(number, formatNumber(number, number.getValue()));
+                    break;
+                case BoolErrRecord.sid:
+                    BoolErrRecord boolErr = (BoolErrRecord) record;
+                    if (boolErr.isBoolean()) {
+                        setCell(boolErr, formatBoolean(boolErr.getBooleanValue()));
+                    }
+                    break;
+                case FormulaRecord.sid:
+                    processFormulaRecord((FormulaRecord) record);
+                    break;
+                case StringRecord.sid:
+                    if (stringFormula != null) {
+                        setCell(stringFormula, ((StringRecord) record).getString());
+                        stringFormula = null;
+                    }
+                    break;
+            }
+        }
+
+        private void processFormulaRecord(FormulaRecord formula) {
+            int resultType = formula.getCachedResultType();
+            if (formula.hasCachedResultString()) {
+                stringFormula = formula;  // value is stored in the next StringRecord
+            } else if (resultType == CellType.BOOLEAN.getCode()) {
+                setCell(formula, formatBoolean(formula.getCachedBooleanValue()));
+            } else if (resultType == CellType.NUMERIC.getCode()) {
+                setCell(formula, formatNumber(formula, formula.getValue()));
+            }
+        }
+
+        private String formatNumber(CellValueRecordInterface record, double value) {
+            int formatIndex = formats.getFormatIndex(record);
+            @Nullable String formatString = formats.getFormatString(record);
+            return RawCellValueFormatter.format(value, formatIndex, formatString, use1904Windowing);
+        }
+
+        private static String formatBoolean(boolean value) {
+            return value ? "TRUE" : "FALSE";
+        }
+
+        private void setCell(CellValueRecordInterface record, @Nullable String value) {
+            cells.setCell(record.getRow(), record.getColumn(), value);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Table Wrapper Spring Boot Starter
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.autoconfigure;
+
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler.SheetContentsHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static javax.xml.stream.XMLStreamConstants.START_ELEMENT;
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Reads selected sheets of xlsx file by SAX parser. Other sheets are skipped without parsing,
+ * shared strings table is read in read-only mode, workbook object model is not built.
+ */
+@NoArgsConstructor(access = PRIVATE)
+final class XlsxStreamingReader {
+
+    private static final XmlParserPool<XMLReader> XML_READERS = new XmlParserPool<>(XMLHelper::newXMLReader);
+    private static final DefaultHandler NO_OP_HANDLER = new DefaultHandler();
+
+    /**
+     * @return selected sheets in workbook order
+     * @implSpec Does not close OPCPackage
+     */
+    static List<SheetPage> read(OPCPackage pkg, SheetSelector selector)
+            throws IOException, OpenXML4JException, SAXException, ParserConfigurationException {
+        XSSFReader reader = new XSSFReader(pkg);
+        ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg);
+        StylesTable styles = reader.getStylesTable();
+        XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+        List<SheetPage> pages = new ArrayList<>();
+        for (int sheetIndex = 0; sheets.hasNext() && !selector.isCompleted(); sheetIndex++) {
+            try (InputStream sheet = sheets.next()) {
+                String sheetName = sheets.getSheetName();
+                if (selector.select(sheetIndex, sheetName)) {
+                    CellStore cells = selector.newCellStore();
+                    parseSheet(sheet, strings, styles, cells);
+                    pages.add(new SheetPage(sheetIndex, sheetName, cells.toReportPage()));
+                }
+            }
+        }
+        return pages;
+    }
+
+    /**
+     * Reads sheet elements of the workbook part only, sheet parts are not read.
+     *
+     * @return sheets in workbook order
+     * @implSpec Does not close OPCPackage
+     */
+    static List<SheetInfo> readSheets(OPCPackage pkg) throws IOException, OpenXML4JException, XMLStreamException {
+        XSSFReader reader = new XSSFReader(pkg);
+        try (InputStream workbook = reader.getWorkbookData()) {
+            XMLStreamReader parser = XmlStreamingReader.XML_INPUT_FACTORY.createXMLStreamReader(workbook);
+            try {
+                List<SheetInfo> sheets = new ArrayList<>();
+                while (parser.hasNext()) {
+                    if (parser.next() == START_ELEMENT && parser.getLocalName().equals("sheet")) {
+                        String sheetName = String.valueOf(XmlStreamingReader.getAttribute(parser, "name"));
+                        sheets.add(SheetInfo.of(sheets.size(), sheetName));
+                    }
+                }
+                return sheets;
+            } finally {
+                parser.close();
+            }
+        }
+    }
+
+    private static void parseSheet(InputStream sheet,
+                                   ReadOnlySharedStringsTable strings,
+                                   StylesTable styles,
+                                   CellStore cells)
+            throws IOException, SAXException, ParserConfigurationException {
+        XMLReader parser = XML_READERS.borrow();
+        SheetContentsHandler contentsHandler = new CellStoreSheetContentsHandler(cells);
+        parser.setContentHandler(new XSSFSheetXMLHandler(
+                styles, strings, contentsHandler, new RawCellValueFormatter(), false));
+        try {
+            parser.parse(new InputSource(sheet));
+        } catch (RowWindowFilledException ignore) {
+            // the rest of the sheet is skipped, parser is reset by the next parsing
+        } finally {
+            parser.setContentHandler(NO_OP_HANDLER);  // pooled parser shouldn't reference cells
+            XML_READERS.release(parser);  // parser is reset by the next parsing
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class CellStoreSheetContentsHandler implements SheetContentsHandler {
+        private final CellStore cells;
+        private int rowNum = -1;
+        private int columnNum = -1;
+
+        @Override
+        public void startRow(int rowNum) {
+            if (cells.isAfterWindow(rowNum)) {
+                throw RowWindowFilledException.INSTANCE;  // SAX parsing can be stopped by exception only
+            }
+            this.rowNum = rowNum;
+            this.columnNum = -1;
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+        }
+
+        @Override
+        public void cell(@Nullable String cellReference, @Nullable String formattedValue, @Nullable XSSFComment comment) {
+            columnNum = (cellReference == null) ? columnNum + 1 : new CellReference(cellReference).getCol();
+            cells.setCell(rowNum, columnNum, formattedValue);
+        }
+    }
+
+    private static final class RowWindowFilledException extends RuntimeException {
+        private static final RowWindowFilledException INSTANCE = new RowWindowFilledException();
+
+        private RowWindowFilledException() {
+            super("Row window is filled", null, false, false);  // without stack trace
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Table Wrapper Spring Boot Starter
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.autoconfigure;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.xml.sax.SAXException;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Bounded pool of not thread-safe XML parsers. Creating a parser looks up and instantiates JAXP factories,
+ * which is expensive under load, so parsers are reused by subsequent calls of any thread.
+ * A parser is used by one thread at a time: it is borrowed for a single parsing
+ * and released after the parsing, even failed one, so the caller resets parser state before release.
+ * A new parser is created if the pool is empty, a released parser is dropped if the pool is full.
+ * Caller also drops parser's references to the parsed document before release,
+ * otherwise the document is reachable from the pool until the parser reuse.
+ *
+ * @param <P> parser type
+ */
+final class XmlParserPool<P> {
+
+    private final BlockingQueue<P> parsers;
+    private final ParserFactory<P> factory;
+
+    XmlParserPool(ParserFactory<P> factory) {
+        this(Runtime.getRuntime().availableProcessors(), factory);
+    }
+
+    XmlParserPool(int capacity, ParserFactory<P> factory) {
+        this.parsers = new ArrayBlockingQueue<>(capacity);
+        this.factory = factory;
+    }
+
+    P borrow() throws ParserConfigurationException, SAXException {
+        @Nullable P parser = parsers.poll();
+        return (parser == null) ? factory.create() : parser;
+    }
+
+    void release(P parser) {
+        parsers.offer(parser);
+    }
+
+    @FunctionalInterface
+    interface ParserFactory<P> {
+        P create() throws ParserConfigurationException, SAXException;
+    }
+}
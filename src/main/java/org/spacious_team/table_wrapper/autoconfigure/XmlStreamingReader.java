@@ -0,0 +1,242 @@
+/*
+ * Table Wrapper Spring Boot Starter
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.autoconfigure;
+
+import lombok.NoArgsConstructor;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static javax.xml.stream.XMLStreamConstants.CDATA;
+import static javax.xml.stream.XMLStreamConstants.CHARACTERS;
+import static javax.xml.stream.XMLStreamConstants.END_ELEMENT;
+import static javax.xml.stream.XMLStreamConstants.START_ELEMENT;
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Reads selected worksheets of SpreadsheetML (Excel 2003 XML) file by StAX parser. Other worksheets are skipped
+ * without building objects, reading is stopped after the last requested worksheet,
+ * workbook object model is not built.
+ */
+@NoArgsConstructor(access = PRIVATE)
+final class XmlStreamingReader {
+
+    static final XMLInputFactory XML_INPUT_FACTORY = newXmlInputFactory();
+
+    /**
+     * @return selected sheets in workbook order
+     * @implSpec Does not close InputStream
+     */
+    static List<SheetPage> read(InputStream is, SheetSelector selector) throws XMLStreamException {
+        XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(is);
+        try {
+            List<SheetPage> pages = new ArrayList<>();
+            for (int sheetIndex = 0; reader.hasNext() && !selector.isCompleted(); ) {
+                if (reader.next() == START_ELEMENT && reader.getLocalName().equals("Worksheet")) {
+                    String sheetName = String.valueOf(getAttribute(reader, "Name"));
+                    if (selector.select(sheetIndex, sheetName)) {
+                        CellStore cells = selector.newCellStore();
+                        int depth = parseWorksheet(reader, cells);
+                        pages.add(new SheetPage(sheetIndex, sheetName, cells.toReportPage()));
+                        if (depth > 0 && !selector.isCompleted()) {
+                            skipElement(reader, depth);  // row window is filled
+                        }
+                    } else {
+                        skipElement(reader);
+                    }
+                    sheetIndex++;
+                }
+            }
+            return pages;
+        } finally {
+            reader.close();  // does not close InputStream
+        }
+    }
+
+    /**
+     * Reads Worksheet elements and their Table element attributes, cells are skipped without building objects.
+     *
+     * @return sheets in workbook order
+     * @implSpec Does not close InputStream
+     */
+    static List<SheetInfo> readSheets(InputStream is) throws XMLStreamException {
+        XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(is);
+        try {
+            List<SheetInfo> sheets = new ArrayList<>();
+            while (reader.hasNext()) {
+                if (reader.next() == START_ELEMENT && reader.getLocalName().equals("Worksheet")) {
+                    String sheetName = String.valueOf(getAttribute(reader, "Name"));
+                    sheets.add(readSheetInfo(reader, sheets.size(), sheetName));
+                }
+            }
+            return sheets;
+        } finally {
+            reader.close();  // does not close InputStream
+        }
+    }
+
+    /**
+     * Reads worksheet dimensions from the optional Table element attributes
+     * and moves reader from the worksheet's start to its end.
+     */
+    private static SheetInfo readSheetInfo(XMLStreamReader reader, int sheetIndex, String sheetName)
+            throws XMLStreamException {
+        int rowCount = SheetInfo.UNKNOWN;
+        int columnCount = SheetInfo.UNKNOWN;
+        for (int depth = 1; depth > 0; ) {
+            int event = reader.next();
+            if (event == START_ELEMENT) {
+                if (depth == 1 && reader.getLocalName().equals("Table")) {
+                    rowCount = getCount(reader, "ExpandedRowCount");
+                    columnCount = getCount(reader, "ExpandedColumnCount");
+                }
+                depth++;
+            } else if (event == END_ELEMENT) {
+                depth--;
+            }
+        }
+        return new SheetInfo(sheetIndex, sheetName, rowCount, columnCount);
+    }
+
+    private static int getCount(XMLStreamReader reader, String attribute) {
+        @Nullable String count = getAttribute(reader, attribute);
+        return (count == null) ? SheetInfo.UNKNOWN : Integer.parseInt(count);
+    }
+
+    /**
+     * Reads worksheet from its start element to its end element or to the first row after the row window.
+     *
+     * @return depth of the reader position relative to the worksheet element, 0 if worksheet end is reached
+     */
+    private static int parseWorksheet(XMLStreamReader reader, CellStore cells) throws XMLStreamException {
+        int rowNum = -1;
+        int columnNum = -1;
+        int cellColumnNum = -1;
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == START_ELEMENT) {
+                switch (reader.getLocalName()) {
+                    case "Row":
+                        rowNum = getIndex(reader, rowNum + 1);
+                        columnNum = -1;
+                        depth++;
+                        if (cells.isAfterWindow(rowNum)) {
+                            return depth;
+                        }
+                        break;
+                    case "Cell":
+                        cellColumnNum = getIndex(reader, columnNum + 1);
+                        @Nullable String mergeAcross = getAttribute(reader, "MergeAcross");
+                        columnNum = cellColumnNum + ((mergeAcross == null) ? 0 : Integer.parseInt(mergeAcross));
+                        depth++;
+                        break;
+                    case "Data":
+                        String value = readText(reader);
+                        cells.setCell(rowNum, cellColumnNum, value.isEmpty() ? null : value);
+                        break;
+                    case "Comment":  // contains its own Data element
+                        skipElement(reader);
+                        break;
+                    default:
+                        depth++;
+                }
+            } else if (event == END_ELEMENT) {
+                depth--;
+            }
+        }
+        return depth;
+    }
+
+    /**
+     * @param defaultIndex zero-based index used if element has no Index attribute
+     * @return zero-based row or column index
+     */
+    private static int getIndex(XMLStreamReader reader, int defaultIndex) {
+        @Nullable String index = getAttribute(reader, "Index");  // one-based
+        return (index == null) ? defaultIndex : Integer.parseInt(index) - 1;
+    }
+
+    /**
+     * @return attribute value of any namespace
+     */
+    static @Nullable String getAttribute(XMLStreamReader reader, String localName) {
+        for (int i = 0, cnt = reader.getAttributeCount(); i < cnt; i++) {
+            if (localName.equals(reader.getAttributeLocalName(i))) {
+                return reader.getAttributeValue(i);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Reads text of the element including text of nested rich text formatting elements
+     * and moves reader to the element's end.
+     */
+    private static String readText(XMLStreamReader reader) throws XMLStreamException {
+        StringBuilder text = new StringBuilder();
+        for (int depth = 1; depth > 0; ) {
+            int event = reader.next();
+            if (event == CHARACTERS || event == CDATA) {
+                text.append(reader.getText());
+            } else if (event == START_ELEMENT) {
+                depth++;
+            } else if (event == END_ELEMENT) {
+                depth--;
+            }
+        }
+        return text.toString();
+    }
+
+    /**
+     * Moves reader from the element's start to its end.
+     */
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        skipElement(reader, 1);
+    }
+
+    /**
+     * Moves reader to the end of the element.
+     *
+     * @param depth depth of the reader position relative to the element
+     */
+    private static void skipElement(XMLStreamReader reader, int depth) throws XMLStreamException {
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == START_ELEMENT) {
+                depth++;
+            } else if (event == END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private static XMLInputFactory newXmlInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);  // XXE protection
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, false);
+        return factory;
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Table Wrapper Spring Boot Starter
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.autoconfigure;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.jupiter.api.Test;
+import org.spacious_team.table_wrapper.api.ReportPage;
+import org.spacious_team.table_wrapper.api.TableCell;
+import org.spacious_team.table_wrapper.api.TableCellAddress;
+import org.spacious_team.table_wrapper.csv.CsvReportPage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompactReportPageTest {
+
+    @SuppressWarnings("nullness")
+    private static final String[][] ROWS = {
+            {"Table 1"},
+            {},
+            {"a", "b", null, "a"},
+            {"1", "-20", "1.5", "01", "1.0", "-0", "12345678901234567890", "1e3"},
+            {"a", null, "b5"}
+    };
+
+    @Test
+    void getCell_sameAsSource() {
+        ReportPage source = new CsvReportPage(ROWS);
+        ReportPage reportPage = CompactReportPage.of(source);
+
+        assertEquals(source.getLastRowNum(), reportPage.getLastRowNum());
+        for (int row = 0; row < ROWS.length; row++) {
+            for (int column = 0; column < 9; column++) {
+                assertEquals(getCellValue(source, row, column), getCellValue(reportPage, row, column),
+                        "cell " + row + ":" + column);
+            }
+        }
+        assertNull(reportPage.getRow(ROWS.length));
+    }
+
+    @Test
+    void find_sameAsSource() {
+        ReportPage source = new CsvReportPage(ROWS);
+        ReportPage reportPage = CompactReportPage.of(source);
+
+        assertEquals(source.find("table"), reportPage.find("table"));
+        assertEquals(source.find("b5"), reportPage.find("b5"));
+        assertEquals(TableCellAddress.of(3, 2), reportPage.find("1.5"));
+        assertEquals(TableCellAddress.of(3, 3), reportPage.find(1, 4, 3, 4, "01"::equals));
+        assertEquals(TableCellAddress.of(4, 0), reportPage.find(3, 5, 0, 1, "a"::equals));
+        assertEquals(TableCellAddress.NOT_FOUND, reportPage.find("d"));
+    }
+
+    @Test
+    void find_indexed_sameAsScan() {
+        CompactReportPage reportPage = CompactReportPage.of(new CsvReportPage(ROWS));
+        CompactReportPage indexed = reportPage.indexed();
+
+        assertSame(indexed, indexed.indexed());
+        for (String value : new String[]{"table", " TABLE 1 ", "a", "b", "b5", "1", "1.", "-", "01", "d", ""}) {
+            for (int startRow = -1; startRow < ROWS.length; startRow++) {
+                for (int startColumn = 0; startColumn < 4; startColumn++) {
+                    assertEquals(reportPage.find(value, startRow, ROWS.length, startColumn, 9),
+                            indexed.find(value, startRow, ROWS.length, startColumn, 9),
+                            value + " at " + startRow + ":" + startColumn);
+                }
+            }
+        }
+        assertEquals(TableCellAddress.of(4, 0), indexed.find("a", 3, 5, 0, 1));
+        assertEquals(TableCellAddress.NOT_FOUND, indexed.find("a", 3, 5, 1, 3));
+    }
+
+    @Test
+    void read_writtenPage() throws IOException {
+        ReportPage source = CompactReportPage.of(new CsvReportPage(ROWS));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ((CompactReportPage) source).write(new DataOutputStream(bytes));
+        ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+
+        ReportPage reportPage = CompactReportPage.read(buffer);
+
+        assertFalse(buffer.hasRemaining());
+        assertEquals(source.getLastRowNum(), reportPage.getLastRowNum());
+        for (int row = 0; row < ROWS.length; row++) {
+            assertEquals(source.getRow(row).getLastCellNum(), reportPage.getRow(row).getLastCellNum());
+            for (int column = 0; column < 9; column++) {
+                assertEquals(getCellValue(source, row, column), getCellValue(reportPage, row, column));
+            }
+        }
+    }
+
+    @Test
+    void read_corruptedData_exception() {
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[]{0, 0, 0, 1, 0, 0, 0, 5});
+        assertThrows(RuntimeException.class, () -> CompactReportPage.read(buffer));
+    }
+
+    @Test
+    void of_emptyPage() {
+        ReportPage reportPage = CompactReportPage.of(new CsvReportPage(new String[0][]));
+
+        assertEquals(-1, reportPage.getLastRowNum());
+        assertNull(reportPage.getRow(0));
+    }
+
+    private static @Nullable Object getCellValue(ReportPage reportPage, int row, int column) {
+        TableCell cell = reportPage.getCell(TableCellAddress.of(row, column));
+        return (cell == null) ? null : cell.getValue();
+    }
+}
@@ -36,9 +36,11 @@ import org.spacious_team.table_wrapper.excel.ExcelSheet;
 import org.spacious_team.table_wrapper.xml.XmlReportPage;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.support.GenericApplicationContext;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
@@ -182,6 +184,83 @@ class DefaultContextAwareReportPageFactoryTest {
         assertSame(TestReportPage.class, factory.getRegisteredReportPageTypes().get(registeredTypes));
     }
 
+    @Test
+    void create_sameArgumentTypes_resolvedTypeCached() {
+        DefaultContextAwareReportPageFactory factory = createFactory();
+        factory.registerBeanDefinition(TestReportPage.class);
+
+        factory.create("arg1", "arg2");
+        factory.create("arg3", "arg4");
+        assertEquals(1, factory.getResolvedTypesCount());
+
+        assertThrows(ReportPageInstantiationException.class, () -> factory.create("arg1", "arg2", "arg3"));
+        assertThrows(ReportPageInstantiationException.class, () -> factory.create("arg1", "arg2", "arg3"));
+        assertEquals(2, factory.getResolvedTypesCount());  // unknown argument types are cached too
+    }
+
+    @Test
+    void create_registeredTypesChanged_resolvedTypesInvalidated() {
+        DefaultContextAwareReportPageFactory factory = createFactory();
+        factory.registerBeanDefinition(TestReportPage.class);
+        factory.registerBeanDefinition(CountingReportPage.class);
+        assertSame(TestReportPage.class, factory.create("arg1", "arg2").getClass());
+
+        factory.getRegisteredReportPageTypes().remove(TestReportPage.class);
+
+        assertSame(CountingReportPage.class, factory.create("arg1", "arg2").getClass());
+        assertEquals(1, factory.getResolvedTypesCount());
+    }
+
+    @Test
+    void create_firstCompatibleTypeFails_nextTypeCreated() {
+        DefaultContextAwareReportPageFactory factory = createFactory();
+        factory.registerBeanDefinition(FailingReportPage.class);
+        factory.registerBeanDefinition(CountingReportPage.class);
+        int instances = CountingReportPage.instances.get();
+
+        assertSame(CountingReportPage.class, factory.create("arg1", "arg2").getClass());
+        assertSame(CountingReportPage.class, factory.create("arg3", "arg4").getClass());
+
+        assertEquals(instances + 2, CountingReportPage.instances.get());
+        assertEquals(1, factory.getResolvedTypesCount());
+    }
+
+    @Test
+    void create_allCompatibleTypesFail_exception() {
+        DefaultContextAwareReportPageFactory factory = createFactory();
+        factory.registerBeanDefinition(FailingReportPage.class);
+
+        ReportPageInstantiationException exception =
+                assertThrows(ReportPageInstantiationException.class, () -> factory.create("arg1", "arg2"));
+
+        assertNotNull(exception.getCause());
+    }
+
+    private static DefaultContextAwareReportPageFactory createFactory() {
+        GenericApplicationContext context = new GenericApplicationContext();
+        context.refresh();
+        return new DefaultContextAwareReportPageFactory(context);
+    }
+
+    private static class FailingReportPage extends TestReportPage {
+
+        @SuppressWarnings("unused")
+        public FailingReportPage(String arg1, String arg2) {
+            super(arg1, arg2);
+            throw new IllegalArgumentException("Unexpected arguments");
+        }
+    }
+
+    private static class CountingReportPage extends TestReportPage {
+
+        static final AtomicInteger instances = new AtomicInteger();
+
+        @SuppressWarnings("unused")
+        public CountingReportPage(String arg1, String arg2) {
+            super(arg1, arg2);
+            instances.incrementAndGet();
+        }
+    }
 
     private static class TestReportPage implements ReportPage {
 
@@ -18,19 +18,42 @@
 
 package org.spacious_team.table_wrapper.autoconfigure;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.spacious_team.table_wrapper.api.ReportPage;
+import org.spacious_team.table_wrapper.api.TableCell;
+import org.spacious_team.table_wrapper.api.TableCellAddress;
+import org.spacious_team.table_wrapper.csv.CsvReportPage;
+import org.spacious_team.table_wrapper.excel.ExcelSheet;
 
+import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-import static org.junit.jupiter.api.Assertions.assertNotNull;
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 import static org.spacious_team.table_wrapper.autoconfigure.ReportPageFactoryTestFileCreator.*;
 
@@ -83,6 +106,583 @@ class DefaultReportPageFactoryTest {
         assertThrows(ReportPageInstantiationException.class, () -> factory.create(is));
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = {"test.xls", "test.xlsx", "test.xml", "test.csv", "test.txt"})
+    void create_byInputStream_formatDetectedWithoutFallback(String fileName) {
+        InputStream is = getInputStream(fileName);
+        FormatDetectionStatistics statistics = factory.getFormatDetectionStatistics();
+        long detections = statistics.getDetections();
+        long fallbacks = statistics.getFallbacks();
+
+        assertNotNull(factory.create(is));
+        assertEquals(detections + 1, statistics.getDetections());
+        assertEquals(fallbacks, statistics.getFallbacks());
+    }
+
+    // Test streaming engines
+
+    @ParameterizedTest
+    @ValueSource(strings = {"test.xls", "test.xlsx"})
+    void create_byStreamingEngine_ok(String fileName) {
+        DefaultReportPageFactory factory = new DefaultReportPageFactory();
+        factory.setXlsEngine(ParserEngine.STREAMING);
+        factory.setXlsxEngine(ParserEngine.STREAMING);
+        Path path = getPath(fileName);
+
+        for (ReportPage reportPage : List.of(
+                factory.create(path),
+                factory.create(path, SHEET_NAME),
+                factory.create(getInputStream(fileName), SHEET_NAME))) {
+            assertEquals("Table 1", getCellValue(reportPage, 0, 0));
+            assertEquals("c", getCellValue(reportPage, 1, 2));
+            assertEquals("1", getCellValue(reportPage, 2, 0));
+            assertEquals("c6", getCellValue(reportPage, 3, 2));
+            assertEquals(3, reportPage.getLastRowNum());
+        }
+        assertThrows(ReportPageInstantiationException.class, () -> factory.create(path, 1));
+        assertThrows(ReportPageInstantiationException.class, () -> factory.create(path, "SheetB"));
+    }
+
+    @Test
+    void create_utf16Xml_ok() {
+        for (ReportPage reportPage : List.of(
+                factory.create(getPath("test-utf16.xml")),
+                factory.create(getInputStream("test-utf16.xml")))) {
+            assertEquals("Table 1", getCellValue(reportPage, 0, 1));
+            assertEquals("c6", getCellValue(reportPage, 3, 2));
+        }
+    }
+
+    @Test
+    void create_xmlAfterParsingFailure_ok(@TempDir Path tempDir) throws IOException {
+        Path broken = Files.writeString(tempDir.resolve("broken.xml"),
+                "<?xml version=\"1.0\"?>\n<Workbook xmlns=\"urn:schemas-microsoft-com:office:spreadsheet\"><Worksheet",
+                UTF_8);
+
+        assertThrows(ReportPageInstantiationException.class, () -> factory.create(broken));
+        ReportPage reportPage = factory.create(getPath("test.xml"));  // reuses reader released after failure
+
+        assertEquals("Table 1", getCellValue(reportPage, 0, 1));
+        assertEquals("c6", getCellValue(reportPage, 3, 2));
+    }
+
+    @Test
+    void create_xmlByStreamingEngine_ok() {
+        DefaultReportPageFactory factory = new DefaultReportPageFactory();
+        factory.setXmlEngine(ParserEngine.STREAMING);
+        Path path = getPath("test.xml");
+
+        for (ReportPage reportPage : List.of(
+                factory.create(path),
+                factory.create(path, SHEET_NAME),
+                factory.create(getInputStream("test.xml"), SHEET_NAME))) {
+            assertEquals("Table 1", getCellValue(reportPage, 0, 1));
+            assertEquals("c", getCellValue(reportPage, 1, 2));
+            assertEquals("c6", getCellValue(reportPage, 3, 2));
+            assertEquals(3, reportPage.getLastRowNum());
+        }
+        assertThrows(ReportPageInstantiationException.class, () -> factory.create(path, "SheetB"));
+    }
+
+    private static @Nullable Object getCellValue(ReportPage reportPage, int row, int column) {
+        TableCell cell = reportPage.getCell(TableCellAddress.of(row, column));
+        return (cell == null) ? null : cell.getValue();
+    }
+
+    // Test workbook cache
+
+    @ParameterizedTest
+    @ValueSource(strings = {"test.xls", "test.xlsx", "test.xml"})
+    void create_withWorkbookCache_parsedOnce(String fileName) {
+        DefaultReportPageFactory factory = new DefaultReportPageFactory();
+        WorkbookCache cache = new WorkbookCache(10, 1_000_000, Duration.ofMinutes(1));
+        factory.setWorkbookCache(cache);
+        Path path = getPath(fileName);
+
+        assertNotNull(factory.create(path, 0));
+        assertNotNull(factory.create(path, SHEET_NAME));
+        assertNotNull(factory.create(getInputStream(fileName), 0));
+        assertNotNull(factory.create(getInputStream(fileName), SHEET_NAME));
+
+        assertEquals(2, cache.getMissCount());
+        assertEquals(2, cache.getHitCount());
+        assertEquals(2, cache.size());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"test.xls", "test.xlsx", "test.xml"})
+    void create_withWorkbookCacheConcurrently_snapshotsCreated(String fileName) throws Exception {
+        DefaultReportPageFactory factory = new DefaultReportPageFactory();
+        WorkbookCache cache = new WorkbookCache(10, 1_000_000, Duration.ofMinutes(1));
+        factory.setWorkbookCache(cache);
+        Path path = getPath(fileName);
+        factory.create(path);  // cached
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<ReportPage>> futures = new ArrayList<>();
+            for (int i = 0; i < 32; i++) {
+                futures.add(executor.submit(() -> factory.create(path, SHEET_NAME)));
+            }
+            for (Future<ReportPage> future : futures) {
+                ReportPage reportPage = future.get();
+                assertSame(CompactReportPage.class, reportPage.getClass());
+                assertEquals("c6", getCellValue(reportPage, 3, 2));
+                assertEquals(3, reportPage.getLastRowNum());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, cache.getMissCount());
+        assertEquals(32, cache.getHitCount());
+    }
+
+    // Test report page cache
+
+    @ParameterizedTest
+    @ValueSource(strings = {"test.xls", "test.xlsx", "test.xml", "test.csv"})
+    void create_withReportPageCache_sharedSnapshot(String fileName) {
+        DefaultReportPageFactory factory = new DefaultReportPageFactory();
+        ReportPageCache cache = new ReportPageCache(10, 1_000_000, Duration.ofMinutes(1));
+        factory.setReportPageCache(cache);
+
+        ReportPage reportPage1 = factory.create(getInputStream(fileName), 0);
+        ReportPage reportPage2 = factory.create(getInputStream(fileName), 0);
+        ReportPage windowReportPage = factory.create(getInputStream(fileName), 0, RowWindow.firstRows(2));
+
+        assertSame(reportPage1, reportPage2);
+        assertTrue(reportPage1 instanceof CsvReportPage);
+        assertEquals("Table 1", getCellValue(reportPage1, 0, 0));
+        assertEquals(3, reportPage1.getLastRowNum());
+        assertEquals(1, windowReportPage.getLastRowNum());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    void create_withReportPageCache_sheetIdIsKeyPart() {
+        DefaultReportPageFactory factory = new DefaultReportPageFactory();
+        ReportPageCache cache = new ReportPageCache(10, 1_000_000, Duration.ofMinutes(1));
+        factory.setReportPageCache(cache);
+
+        assertNotNull(factory.create(getInputStream("test.xlsx"), 0));
+        assertNotNull(factory.create(getInputStream("test.xlsx"), SHEET_NAME));
+        assertThrows(ReportPageInstantiationException.class, () -> factory.create(getInputStream("test.xlsx"), 1));
+
+        assertEquals(3, cache.getMissCount());
+        assertEquals(2, cache.size());
+    }
+
+    // Test compact report pages
+
+    @ParameterizedTest
+    @ValueSource(strings = {"test.xls", "test.xlsx", "test.xml", "test.csv"})
+    void create_compactReportPages_ok(String fileName) {
+        DefaultReportPageFactory factory = new DefaultReportPageFactory();
+        factory.setCompactReportPages(true);
+
+        for (ReportPage reportPage : List.of(
+                factory.create(getPath(fileName)),
+                factory.create(getInputStream(fileName)))) {
+            assertTrue(reportPage instanceof CompactReportPage);
+            assertEquals("Table 1", getCellValue(reportPage, 0, 0));
+            assertEquals("c", getCellValue(reportPage, 1, 2));
+            assertEquals("1", getCellValue(reportPage, 2, 0));
+            assertEquals("c6", getCellValue(reportPage, 3, 2));
+            assertEquals(3, reportPage.getLastRowNum());
+        }
+    }
+
+    @Test
+    void create_indexedReportPages_tableFound() {
+        DefaultReportPageFactory factory = new DefaultReportPageFactory();
+        factory.setIndexedReportPages(true);
+
+        ReportPage reportPage = factory.create(getPath("test.xlsx"));
+
+        assertTrue(reportPage instanceof CompactReportPage);
+        assertEquals(TableCellAddress.of(0, 0), reportPage.find("table"));
+        assertEquals(TableCellAddress.of(3, 2), reportPage.find("C6"));
+    }
+
+    // Test snapshot store
+
+    @ParameterizedTest
+    @ValueSource(strings = {"test.xls", "test.xlsx", "test.xml"})
+    void create_withSnapshotStore_parsedOnce(String fileName, @TempDir Path tempDir) throws IOException {
+        Path path = Files.copy(getPath(fileName), tempDir.resolve(fileName));
+        DefaultReportPageFactory factory = new DefaultReportPageFactory();
+        ReportPageSnapshotStore store = new ReportPageSnapshotStore(tempDir.resolve("snapshots"));
+        factory.setSnapshotStore(store);
+
+        ReportPage parsed = factory.create(path, 0);
+        ReportPage stored = factory.create(path, 0);
+        Files.setLastModifiedTime(path, FileTime.fromMillis(0));
+        ReportPage touched = factory.create(path, 0);  // content hash is not changed
+
+        for (ReportPage reportPage : List.of(parsed, stored, touched)) {
+            assertTrue(reportPage instanceof CompactReportPage);
+            assertEquals("Table 1", getCellValue(reportPage, 0, 0));
+            assertEquals("c6", getCellValue(reportPage, 3, 2));
+            assertEquals(3, reportPage.getLastRowNum());
+        }
+        assertTrue(Files.exists(store.getSnapshotPath(path, 0)));
+        assertEquals(2, store.getHitCount());
+        assertEquals(1, store.getMissCount());
+        assertThrows(ReportPageInstantiationException.class, () -> factory.create(path, 1));
+    }
+
+    // Test spooling to temporary file
+
+    @ParameterizedTest
+    @ValueSource(strings = {"test.xls", "test.xlsx", "test.xml", "test.csv"})
+    void create_byInputStreamAboveInMemoryThreshold_ok(String fileName) {
+        DefaultReportPageFactory factory = new DefaultReportPageFactory();
+        factory.setInMemoryThreshold(16);
+        factory.setXlsxEngine(ParserEngine.STREAMING);
+        InputStream is = new BufferedInputStream(getInputStream(fileName));
+
+        ReportPage reportPage = factory.create(is, 0);
+
+        assertEquals("Table 1", getCellValue(reportPage, 0, 0));
+        assertEquals(1, factory.getFormatDetectionStatistics().getDetections());
+    }
+
+    @Test
+    void create_spooledXlsByDomEngine_ok() {
+        DefaultReportPageFactory factory = new DefaultReportPageFactory();
+        factory.setInMemoryThreshold(16);
+        InputStream is = new BufferedInputStream(getInputStream("test.xls"));
+
+        try (ReportPageHandle handle = factory.open(is, SHEET_NAME)) {
+            ReportPage reportPage = handle.getReportPage();
+            assertSame(ExcelSheet.class, reportPage.getClass());
+            assertEquals("Table 1", getCellValue(reportPage, 0, 0));
+            assertEquals("c6", getCellValue(reportPage, 3, 2));
+            assertEquals(3, reportPage.getLastRowNum());
+        }
+    }
+
+    @Test
+    void spooledInput_temporaryFileDeleted() throws IOException {
+        InputStream is = new BufferedInputStream(getInputStream("test.csv"));
+        Path file;
+        try (SpooledInput input = SpooledInput.of(is, 1)) {
+            assertTrue(input.isSpooled());
+            file = input.getFile();
+            assertTrue(Files.exists(file));
+        }
+        assertFalse(Files.exists(file));
+    }
+
+    // Test multiple sheets
+
+    @ParameterizedTest
+    @ValueSource(strings = {"test.xls", "test.xlsx", "test.xml"})
+    void createAll_ok(String fileName) {
+        Map<String, ReportPage> byPath = factory.createAll(getPath(fileName));
+        Map<String, ReportPage> byInputStream = factory.createAll(getInputStream(fileName));
+
+        assertEquals(Set.of(SHEET_NAME), byPath.keySet());
+        assertEquals(Set.of(SHEET_NAME), byInputStream.keySet());
+        assertEquals("Table 1", getCellValue(byPath.get(SHEET_NAME), 0, 0));
+        assertEquals("Table 1", getCellValue(byInputStream.get(SHEET_NAME), 0, 0));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"test.csv"})
+    void createAll_csv_ok(String fileName) {
+        assertEquals(Set.of(""), factory.createAll(getPath(fileName)).keySet());
+        assertEquals(Set.of(""), factory.createAll(getInputStream(fileName)).keySet());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"test.xls", "test.xlsx", "test.xml", "test.csv"})
+    void create_sheetIds_ok(String fileName) {
+        List<Object> sheetIds = List.of(SHEET_NAME, 0);
+        Map<Object, ReportPage> byPath = factory.create(getPath(fileName), sheetIds);
+        Map<Object, ReportPage> byInputStream = factory.create(getInputStream(fileName), sheetIds);
+
+        assertEquals(sheetIds, List.copyOf(byPath.keySet()));
+        assertEquals(sheetIds, List.copyOf(byInputStream.keySet()));
+        assertSame(byPath.get(0), byPath.get(SHEET_NAME));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"test.xls", "test.xlsx", "test.xml"})
+    void create_sheetIdsWithNotFoundSheet_exception(String fileName) {
+        List<Object> sheetIds = List.of(0, "SheetB");
+        assertThrows(ReportPageInstantiationException.class, () -> factory.create(getPath(fileName), sheetIds));
+    }
+
+    // Test batch creation
+
+    @ParameterizedTest
+    @ValueSource(strings = {"test.xls", "test.xlsx", "test.xml"})
+    void create_byAutoEngine_chosenBySize(String fileName) {
+        DefaultReportPageFactory factory = new DefaultReportPageFactory();
+        factory.setXlsEngine(ParserEngine.AUTO);
+        factory.setXlsxEngine(ParserEngine.AUTO);
+        factory.setXmlEngine(ParserEngine.AUTO);
+        Path path = getPath(fileName);
+
+        assertNotSame(CsvReportPage.class, factory.create(path).getClass());
+        assertNotSame(CsvReportPage.class, factory.create(getInputStream(fileName)).getClass());
+
+        factory.setXlsStreamingThreshold(0);
+        factory.setXlsxStreamingThreshold(0);
+        factory.setXmlStreamingThreshold(0);
+        assertSame(CsvReportPage.class, factory.create(path).getClass());
+        assertSame(CsvReportPage.class, factory.create(getInputStream(fileName)).getClass());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"test.xls", "test.xlsx", "test.xml"})
+    void create_memoryBudgetExhausted_streamingEngineUsed(String fileName) throws InterruptedException {
+        MemoryBudget budget = new MemoryBudget(1, Duration.ZERO, MemoryBudget.ExhaustionPolicy.STREAMING);
+        factory.setMemoryBudget(budget);
+
+        try (MemoryBudget.Reservation ignore = budget.reserve(1)) {
+            assertSame(CsvReportPage.class, factory.create(getPath(fileName)).getClass());
+            assertSame(CsvReportPage.class, factory.create(getInputStream(fileName)).getClass());
+        }
+        assertNotSame(CsvReportPage.class, factory.create(getPath(fileName)).getClass());
+        assertEquals(0, budget.getReservedBytes());
+    }
+
+    @Test
+    void create_memoryBudgetExhausted_exception() throws InterruptedException {
+        MemoryBudget budget = new MemoryBudget(1, Duration.ZERO, MemoryBudget.ExhaustionPolicy.FAIL);
+        factory.setMemoryBudget(budget);
+
+        try (MemoryBudget.Reservation ignore = budget.reserve(1)) {
+            assertThrows(MemoryBudgetExhaustedException.class, () -> factory.create(getPath("test.xlsx")));
+            assertThrows(MemoryBudgetExhaustedException.class, () -> factory.create(getInputStream("test.xlsx")));
+            assertEquals(2, budget.getRejectionCount());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"test.xls", "test.xlsx", "test.xml"})
+    void create_memoryBudgetExhaustedAndWorkbookCached_ok(String fileName) throws InterruptedException {
+        MemoryBudget budget = new MemoryBudget(1_000_000_000, Duration.ZERO, MemoryBudget.ExhaustionPolicy.FAIL);
+        WorkbookCache cache = new WorkbookCache(10, 1_000_000, Duration.ofMinutes(1));
+        factory.setMemoryBudget(budget);
+        factory.setWorkbookCache(cache);
+        factory.create(getPath(fileName));
+        factory.create(getInputStream(fileName));
+
+        try (MemoryBudget.Reservation ignore = budget.reserve(budget.getMaxBytes() - budget.getReservedBytes())) {
+            assertEquals(budget.getMaxBytes(), budget.getReservedBytes());
+            assertEquals("Table 1", getCellValue(factory.create(getPath(fileName)), 0, 0));
+            assertEquals("Table 1", getCellValue(factory.create(getInputStream(fileName)), 0, 0));
+        }
+        assertEquals(2, cache.getHitCount());
+        assertEquals(0, budget.getRejectionCount());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"test.xls", "test.xlsx", "test.xml"})
+    void create_withWorkbookCache_memoryReservedUntilEviction(String fileName) {
+        MemoryBudget budget = new MemoryBudget(1_000_000_000, Duration.ZERO, MemoryBudget.ExhaustionPolicy.FAIL);
+        WorkbookCache cache = new WorkbookCache(1, 1_000_000, Duration.ofMinutes(1));
+        factory.setMemoryBudget(budget);
+        factory.setWorkbookCache(cache);
+
+        factory.create(getPath(fileName));
+        long reserved = budget.getReservedBytes();
+        factory.create(getInputStream(fileName));  // evicts workbook loaded from path
+
+        assertTrue(reserved > 0);
+        assertEquals(reserved, budget.getReservedBytes());
+        cache.clear();
+        assertEquals(0, budget.getReservedBytes());
+    }
+
+    @Test
+    void open_memoryReservedUntilClose() {
+        MemoryBudget budget = new MemoryBudget(1_000_000_000, Duration.ZERO, MemoryBudget.ExhaustionPolicy.FAIL);
+        factory.setMemoryBudget(budget);
+
+        try (ReportPageHandle handle = factory.open(getPath("test.xlsx"))) {
+            assertEquals(3, handle.getReportPage().getLastRowNum());
+            assertTrue(budget.getReservedBytes() > 0);
+        }
+        assertEquals(0, budget.getReservedBytes());
+    }
+
+    // Test row window
+
+    @ParameterizedTest
+    @ValueSource(strings = {"test.xls", "test.xlsx", "test.xml", "test.csv"})
+    void create_firstRowsWindow_ok(String fileName) {
+        RowWindow window = RowWindow.firstRows(2);
+        for (ReportPage reportPage : List.of(
+                factory.create(getPath(fileName), window),
+                factory.create(getPath(fileName), SHEET_NAME, window),
+                factory.create(getInputStream(fileName), window))) {
+            assertEquals("c", getCellValue(reportPage, 1, 2));
+            assertEquals(1, reportPage.getLastRowNum());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"test.xls", "test.xlsx", "test.xml", "test.csv"})
+    void create_rowWindow_rowsBeforeWindowEmpty(String fileName) {
+        RowWindow window = RowWindow.of(3, 10);
+        for (ReportPage reportPage : List.of(
+                factory.create(getPath(fileName), 0, window),
+                factory.create(getInputStream(fileName), 0, window))) {
+            assertNull(getCellValue(reportPage, 1, 2));
+            assertEquals("c6", getCellValue(reportPage, 3, 2));
+            assertEquals(3, reportPage.getLastRowNum());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void create_csvRowWindow_sameAsFullRead(boolean memoryMappedCsv, @TempDir Path tempDir) throws IOException {
+        factory.setMemoryMappedCsv(memoryMappedCsv);
+        List<String> lineSeparators = List.of("\n", "\r\n", "\r");
+        for (int i = 0; i < lineSeparators.size(); i++) {
+            String lineSeparator = lineSeparators.get(i);
+            String csv = String.join(lineSeparator,
+                    "name;note;city",
+                    "\"Smith; John\";\"He said \"\"hi\"\"\";Москва",
+                    "\"Line 1" + lineSeparator + "Line 2\";x;Санкт-Петербург",
+                    "last;\"y\";Казань",
+                    "");
+            Path path = Files.writeString(tempDir.resolve("test" + i + ".csv"), csv, UTF_8);
+
+            ReportPage fullByPath = factory.create(path);
+            ReportPage fullByInputStream = factory.create(new ByteArrayInputStream(csv.getBytes(UTF_8)));
+            for (RowWindow window : List.of(RowWindow.firstRows(10), RowWindow.of(1, 2))) {
+                ReportPage windowByPath = factory.create(path, window);
+                ReportPage windowByInputStream = factory.create(new ByteArrayInputStream(csv.getBytes(UTF_8)), window);
+                if (!memoryMappedCsv) {
+                    assertSame(CsvReportPage.class, windowByPath.getClass());
+                }
+                for (int row = window.getFirstRow(); row <= Math.min(3, window.getEndRow() - 1); row++) {
+                    for (int column = 0; column < 3; column++) {
+                        assertEquals(getCellValue(fullByPath, row, column), getCellValue(windowByPath, row, column));
+                        assertEquals(getCellValue(fullByInputStream, row, column),
+                                getCellValue(windowByInputStream, row, column));
+                    }
+                }
+            }
+            for (ReportPage reportPage : List.of(fullByPath, fullByInputStream)) {
+                assertEquals(3, reportPage.getLastRowNum());
+                assertEquals("He said \"hi\"", getCellValue(reportPage, 1, 1));
+                assertEquals("Line 1\nLine 2", getCellValue(reportPage, 2, 0));
+                assertEquals("Санкт-Петербург", getCellValue(reportPage, 2, 2));
+                assertEquals("Казань", getCellValue(reportPage, 3, 2));
+            }
+        }
+    }
+
+    // Test sheet metadata
+
+    @ParameterizedTest
+    @ValueSource(strings = {"test.xls", "test.xlsx", "test.xml"})
+    void getSheets_ok(String fileName) {
+        for (List<SheetInfo> sheets : List.of(
+                factory.getSheets(getPath(fileName)),
+                factory.getSheets(getInputStream(fileName)))) {
+            assertEquals(1, sheets.size());
+            assertEquals(0, sheets.get(0).getIndex());
+            assertEquals(SHEET_NAME, sheets.get(0).getName());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"test.csv", "test.txt"})
+    void getSheets_csv_ok(String fileName) {
+        SheetInfo expected = new SheetInfo(0, "", SheetInfo.UNKNOWN, SheetInfo.UNKNOWN);
+        assertEquals(List.of(expected), factory.getSheets(getPath(fileName)));
+        assertEquals(List.of(expected), factory.getSheets(getInputStream(fileName)));
+    }
+
+    @Test
+    void getSheets_unknownFilenameExt_exception() {
+        assertThrows(ReportPageInstantiationException.class, () -> factory.getSheets(getPath("test.bin")));
+    }
+
+    // Test resource lifecycle
+
+    @ParameterizedTest
+    @ValueSource(strings = {"test.xls", "test.xlsx", "test.xml", "test.csv"})
+    void open_closedRepeatedly(String fileName) {
+        for (ReportPageHandle handle : List.of(
+                factory.open(getPath(fileName)),
+                factory.open(getInputStream(fileName)))) {
+            assertEquals(3, handle.getReportPage().getLastRowNum());
+            handle.close();
+            handle.close();
+        }
+    }
+
+    @Test
+    void open_memoryMappedCsv_closedOnHandleClose() {
+        factory.setMemoryMappedCsv(true);
+        ReportPage reportPage;
+        try (ReportPageHandle handle = factory.open(getPath("test.csv"))) {
+            reportPage = handle.getReportPage();
+            assertTrue(reportPage instanceof MappedCsvReportPage);
+            assertEquals(3, reportPage.getLastRowNum());
+        }
+        assertThrows(IllegalStateException.class, reportPage::getLastRowNum);
+    }
+
+    @Test
+    void open_notFoundSheet_exception() {
+        assertThrows(ReportPageInstantiationException.class, () -> factory.open(getPath("test.xlsx"), 1));
+    }
+
+    @Test
+    void createBatch_failureCaptured() {
+        factory.setBatchParallelism(2);
+        List<Path> paths = Stream.of("test.xls", "test.bin", "test.xlsx", "test.xml", "test.csv")
+                .map(ReportPageFactoryTestFileCreator::getPath)
+                .collect(Collectors.toList());
+        List<BatchResult<Path>> completed = new ArrayList<>();
+
+        List<BatchResult<Path>> results = factory.createBatch(paths, factory::create, completed::add);
+
+        assertEquals(paths.size(), completed.size());
+        assertEquals(paths, results.stream().map(BatchResult::getSource).collect(Collectors.toList()));
+        assertFalse(results.get(1).isSuccess());
+        assertInstanceOf(ReportPageInstantiationException.class, results.get(1).getException());
+        results.stream()
+                .filter(result -> result.getIndex() != 1)
+                .forEach(result -> assertTrue(result.isSuccess()));
+    }
+
+    // Test asynchronous creation
+
+    @ParameterizedTest
+    @ValueSource(strings = {"test.xls", "test.xlsx", "test.xml", "test.csv"})
+    void createAsync_ok(String fileName) {
+        Executor executor = spy(new DirectExecutor());
+        factory.setAsyncExecutor(executor);
+
+        assertEquals("Table 1", getCellValue(factory.createAsync(getPath(fileName)).join(), 0, 0));
+        assertEquals("Table 1", getCellValue(factory.createAsync(getInputStream(fileName), 0).join(), 0, 0));
+        verify(executor, times(2)).execute(any());
+    }
+
+    @Test
+    void createAsync_exceptionally() {
+        CompletableFuture<ReportPage> future = factory.createAsync(getPath("test.bin"));
+        CompletionException exception = assertThrows(CompletionException.class, future::join);
+        assertInstanceOf(ReportPageInstantiationException.class, exception.getCause());
+    }
+
+    private static class DirectExecutor implements Executor {
+        @Override
+        public void execute(Runnable command) {
+            command.run();
+        }
+    }
+
     // Test second sheet by index
 
     @ParameterizedTest
@@ -137,6 +737,16 @@ class DefaultReportPageFactoryTest {
 
     // Test unexpected type sheet id
 
+    @ParameterizedTest
+    @ValueSource(strings = {"test.xls", "test.xlsx", "test.xml"})
+    @SuppressWarnings("ConstantConditions")
+    void create_nullSheetId_exception(String fileName) {
+        Path path = getPath(fileName);
+        ReportPageInstantiationException exception =
+                assertThrows(ReportPageInstantiationException.class, () -> factory.doCreate(path, null));
+        assertSame(IllegalArgumentException.class, exception.getCause().getClass());
+    }
+
     @ParameterizedTest
     @ValueSource(strings = {"test.xls", "test.xlsx", "test.xml", "test.txt", "test.bin"})
     void create_unknownTypeSheetId_exception(String fileName) {
@@ -0,0 +1,85 @@
+/*
+ * Table Wrapper Spring Boot Starter
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.autoconfigure;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.spacious_team.table_wrapper.autoconfigure.DefaultReportPageFactory.KnownFileExtension;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.Charset;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.spacious_team.table_wrapper.autoconfigure.FileFormatDetector.DEFAULT_WINDOW_SIZE;
+import static org.spacious_team.table_wrapper.autoconfigure.ReportPageFactoryTestFileCreator.*;
+
+class FileFormatDetectorTest {
+
+    @BeforeAll
+    static void beforeTests() {
+        creteFiles();
+    }
+
+    @AfterAll
+    static void afterTests() {
+        deleteFiles();
+    }
+
+    @ParameterizedTest
+    @CsvSource({"test.xls, XLS", "test.xlsx, XLSX", "test.xml, XML", "test-utf16.xml, XML", "test.csv, CSV",
+            "test.txt, CSV", "test.bin, CSV", "empty.txt, CSV"})
+    void detect(String fileName, KnownFileExtension expected) {
+        ByteArrayInputStream bais = getInputStream(fileName);
+        int size = bais.available();
+
+        assertEquals(expected, FileFormatDetector.detect(bais, DEFAULT_WINDOW_SIZE));
+        assertEquals(size, bais.available());  // stream is reset
+    }
+
+    @Test
+    void detect_xmlWithBomAndNewLines() {
+        byte[] bytes = "\uFEFF\r\n<Workbook/>".getBytes(UTF_8);
+        assertEquals(KnownFileExtension.XML, FileFormatDetector.detect(bytes, bytes.length));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"UTF-16", "UTF-16BE", "UTF-16LE"})
+    void detect_utf16Xml(String charset) {
+        for (String xml : List.of("<?xml version=\"1.0\"?><Workbook/>", "\r\n<Workbook/>")) {
+            byte[] bytes = xml.getBytes(Charset.forName(charset));
+            assertEquals(KnownFileExtension.XML, FileFormatDetector.detect(bytes, bytes.length));
+        }
+    }
+
+    @Test
+    void detect_zipWithoutContentTypes_null() {
+        byte[] bytes = {'P', 'K', 3, 4, 0, 0, 0, 0};
+        assertNull(FileFormatDetector.detect(bytes, bytes.length));
+    }
+
+    @Test
+    void detect_emptyData_csv() {
+        assertEquals(KnownFileExtension.CSV, FileFormatDetector.detect(new byte[0], 0));
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Table Wrapper Spring Boot Starter
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.autoconfigure;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.spacious_team.table_wrapper.api.ReportPage;
+import org.spacious_team.table_wrapper.api.TableCell;
+import org.spacious_team.table_wrapper.api.TableCellAddress;
+import org.spacious_team.table_wrapper.csv.CsvReportPage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedCsvReportPageTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void getCell_ok() throws IOException {
+        Path path = tempDir.resolve("test.csv");
+        String data = "\uFEFFTable 1\r\n\r\na;b;c\n 1 ;\"x;\"\"y\"\"\";\n\"multi\nline\";2;3\n";
+        Files.write(path, data.getBytes(UTF_8));
+        ReportPage reportPage = new MappedCsvReportPage(path);
+
+        assertEquals("Table 1", getCellValue(reportPage, 0, 0));
+        assertEquals("c", getCellValue(reportPage, 1, 2));
+        assertEquals("1", getCellValue(reportPage, 2, 0));
+        assertEquals("x;\"y\"", getCellValue(reportPage, 2, 1));
+        assertNull(getCellValue(reportPage, 2, 2));
+        assertEquals("multi\nline", getCellValue(reportPage, 3, 0));
+        assertEquals("3", getCellValue(reportPage, 3, 2));
+        assertEquals(3, reportPage.getLastRowNum());
+        assertNull(reportPage.getRow(4));
+    }
+
+    @Test
+    void find_sameAsCsvReportPage() throws IOException {
+        Path path = tempDir.resolve("test.csv");
+        Files.write(path, "Table 1\na;b;c\n1;2;3\na4;b5;c6\n".getBytes(UTF_8));
+        ReportPage expected = new CsvReportPage(path);
+        ReportPage reportPage = new MappedCsvReportPage(path);
+
+        assertEquals(expected.getLastRowNum(), reportPage.getLastRowNum());
+        assertEquals(expected.find("table"), reportPage.find("table"));
+        assertEquals(expected.find("b5"), reportPage.find("b5"));
+        assertEquals(TableCellAddress.of(3, 2), reportPage.find("c6"));
+        assertEquals(TableCellAddress.NOT_FOUND, reportPage.find("d"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"\n", "\r\n", "\r"})
+    void getCell_lineSeparator_sameAsCsvReportPage(String lineSeparator) throws IOException {
+        Path path = tempDir.resolve("test.csv");
+        String data = String.join(lineSeparator,
+                "name;note;city",
+                "\"Smith; John\";\"He said \"\"hi\"\"\";Москва",
+                "\"Line 1" + lineSeparator + "Line 2\";x;Санкт-Петербург",
+                "last;2;\"Казань\"",
+                "");
+        Files.write(path, data.getBytes(UTF_8));
+        ReportPage expected = new CsvReportPage(path);
+        ReportPage reportPage = new MappedCsvReportPage(path);
+
+        assertEquals(expected.getLastRowNum(), reportPage.getLastRowNum());
+        for (int row = 0; row <= expected.getLastRowNum(); row++) {
+            for (int column = 0; column < 3; column++) {
+                assertEquals(getCellValue(expected, row, column), getCellValue(reportPage, row, column));
+            }
+        }
+        assertEquals(3, reportPage.getLastRowNum());
+        assertEquals("Line 1\nLine 2", getCellValue(reportPage, 2, 0));
+        assertEquals("Казань", getCellValue(reportPage, 3, 2));
+    }
+
+    @Test
+    void getLastRowNum_emptyFile() throws IOException {
+        Path path = tempDir.resolve("empty.csv");
+        Files.write(path, new byte[0]);
+        ReportPage reportPage = new MappedCsvReportPage(path);
+
+        assertEquals(-1, reportPage.getLastRowNum());
+        assertNull(reportPage.getRow(0));
+    }
+
+    @Test
+    void close_accessAfterClose_exception() throws IOException {
+        Path path = tempDir.resolve("test.csv");
+        Files.write(path, "a;b;c\n1;2;3\n".getBytes(UTF_8));
+        MappedCsvReportPage reportPage = new MappedCsvReportPage(path);
+        assertEquals("c", getCellValue(reportPage, 0, 2));
+
+        reportPage.close();
+        reportPage.close();
+
+        assertThrows(IllegalStateException.class, () -> reportPage.getRow(1));
+        assertThrows(IllegalStateException.class, () -> reportPage.find("b"));
+        assertThrows(IllegalStateException.class, reportPage::getLastRowNum);
+    }
+
+    private static @Nullable Object getCellValue(ReportPage reportPage, int row, int column) {
+        TableCell cell = reportPage.getCell(TableCellAddress.of(row, column));
+        return (cell == null) ? null : cell.getValue();
+    }
+}
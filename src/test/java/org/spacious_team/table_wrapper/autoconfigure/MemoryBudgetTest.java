@@ -0,0 +1,90 @@
+/*
+ * Table Wrapper Spring Boot Starter
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.autoconfigure;
+
+import org.junit.jupiter.api.Test;
+import org.spacious_team.table_wrapper.autoconfigure.MemoryBudget.Reservation;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.spacious_team.table_wrapper.autoconfigure.MemoryBudget.ExhaustionPolicy.FAIL;
+
+class MemoryBudgetTest {
+
+    @Test
+    void reserve_releasedOnce() throws InterruptedException {
+        MemoryBudget budget = new MemoryBudget(100, Duration.ZERO, FAIL);
+
+        Reservation reservation = budget.reserve(60);
+        assertNotNull(reservation);
+        assertEquals(60, budget.getReservedBytes());
+
+        reservation.close();
+        reservation.close();
+        assertEquals(0, budget.getReservedBytes());
+    }
+
+    @Test
+    void reserve_exhausted_rejected() throws InterruptedException {
+        MemoryBudget budget = new MemoryBudget(100, Duration.ofMillis(10), FAIL);
+
+        try (Reservation ignore = budget.reserve(60)) {
+            assertNull(budget.reserve(60));
+            assertEquals(1, budget.getRejectionCount());
+            assertEquals(0, budget.getQueueLength());
+        }
+    }
+
+    @Test
+    void reserve_overBudget_reducedToBudget() throws InterruptedException {
+        MemoryBudget budget = new MemoryBudget(100, Duration.ZERO, FAIL);
+
+        try (Reservation reservation = budget.reserve(1_000)) {
+            assertNotNull(reservation);
+            assertEquals(100, budget.getReservedBytes());
+        }
+    }
+
+    @Test
+    void reserve_waitsForRelease() throws Exception {
+        MemoryBudget budget = new MemoryBudget(100, Duration.ofMinutes(1), FAIL);
+        Reservation reservation = budget.reserve(100);
+        assertNotNull(reservation);
+
+        CompletableFuture<Reservation> waiter = CompletableFuture.supplyAsync(() -> {
+            try {
+                return budget.reserve(50);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        while (budget.getQueueLength() == 0) {
+            Thread.onSpinWait();
+        }
+        reservation.close();
+
+        Reservation waited = waiter.get(1, TimeUnit.MINUTES);
+        assertNotNull(waited);
+        assertEquals(50, budget.getReservedBytes());
+        assertEquals(0, budget.getQueueLength());
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Table Wrapper Spring Boot Starter
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.autoconfigure;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.spacious_team.table_wrapper.autoconfigure.ReportPageFactoryTestFileCreator.*;
+
+class MicrometerReportPageCreationListenerTest {
+
+    MeterRegistry registry;
+    DefaultReportPageFactory factory;
+
+    @BeforeAll
+    static void beforeTests() {
+        creteFiles();
+    }
+
+    @AfterAll
+    static void afterTests() {
+        deleteFiles();
+    }
+
+    @BeforeEach
+    void beforeEach() {
+        registry = new SimpleMeterRegistry();
+        factory = new DefaultReportPageFactory();
+        factory.setCreationListener(new MicrometerReportPageCreationListener(registry));
+    }
+
+    @Test
+    void create_byPath_recorded() {
+        factory.create(getPath("test.xlsx"));
+
+        assertEquals(1, registry.get("table.wrapper.create")
+                .tags("source", "path", "format", "xlsx", "outcome", "success")
+                .timer().count());
+        assertEquals(1, registry.get("table.wrapper.create.phase")
+                .tags("format", "xlsx", "phase", "workbook_parsing")
+                .timer().count());
+        assertEquals(1, registry.get("table.wrapper.create.phase")
+                .tags("format", "xlsx", "phase", "sheet_lookup")
+                .timer().count());
+        assertEquals(4, registry.get("table.wrapper.rows").summary().totalAmount());
+        assertTrue(registry.get("table.wrapper.input.size").summary().totalAmount() > 0);
+    }
+
+    @Test
+    void create_byInputStream_recorded() {
+        factory.create(getInputStream("test.csv"));
+
+        assertEquals(1, registry.get("table.wrapper.create.phase")
+                .tags("source", "input_stream", "phase", "buffering")
+                .timer().count());
+        assertEquals(1, registry.get("table.wrapper.create.phase")
+                .tags("source", "input_stream", "phase", "format_detection")
+                .timer().count());
+        assertEquals(1, registry.get("table.wrapper.create")
+                .tags("source", "input_stream", "format", "csv", "outcome", "success")
+                .timer().count());
+    }
+
+    @Test
+    void create_turkishLocale_tagsLowerCased() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(new Locale("tr", "TR"));
+        try {
+            factory.create(getInputStream("test.xml"));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+
+        assertEquals(1, registry.get("table.wrapper.create")
+                .tags("source", "input_stream", "format", "xml", "outcome", "success")
+                .timer().count());
+    }
+
+    @Test
+    void create_autoEngine_selectionRecorded() {
+        factory.setXlsxEngine(ParserEngine.AUTO);
+        factory.create(getPath("test.xlsx"));
+        factory.setXlsxStreamingThreshold(0);
+        factory.create(getPath("test.xlsx"));
+
+        for (String engine : new String[]{"dom", "streaming"}) {
+            assertEquals(1, registry.get("table.wrapper.engine.selections")
+                    .tags("source", "path", "format", "xlsx", "engine", engine)
+                    .counter().count());
+        }
+    }
+
+    @Test
+    void create_memoryBudget_reservationRecorded() {
+        factory.setMemoryBudget(new MemoryBudget(1_000_000_000, Duration.ZERO, MemoryBudget.ExhaustionPolicy.FAIL));
+        factory.create(getPath("test.xlsx"));
+
+        assertEquals(1, registry.get("table.wrapper.memory.wait")
+                .tags("source", "path", "format", "xlsx", "outcome", "reserved")
+                .timer().count());
+        assertEquals(1, registry.get("table.wrapper.memory.queue").summary().count());
+    }
+
+    @Test
+    void create_failure_recorded() {
+        assertThrows(ReportPageInstantiationException.class, () -> factory.create(getPath("test.xlsx"), 1));
+
+        assertEquals(1, registry.get("table.wrapper.create.failures")
+                .tags("source", "path", "format", "xlsx", "exception", "IllegalArgumentException")
+                .counter().count());
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Table Wrapper Spring Boot Starter
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.autoconfigure;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.spacious_team.table_wrapper.api.ReportPage;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.Objects.requireNonNull;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.spacious_team.table_wrapper.autoconfigure.ReportPageFactoryTestFileCreator.*;
+
+/**
+ * Tests default methods of the interface for third-party implementations.
+ */
+class ReportPageFactoryTest {
+
+    final ReportPageFactory factory = new MinimalReportPageFactory();
+
+    @BeforeAll
+    static void beforeTests() {
+        creteFiles();
+    }
+
+    @AfterAll
+    static void afterTests() {
+        deleteFiles();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"test.xls", "test.xlsx", "test.xml", "test.csv"})
+    void create_sheetIds_ok(String fileName) {
+        List<Object> sheetIds = List.of(SHEET_NAME, 0);
+        Map<Object, ReportPage> byPath = factory.create(getPath(fileName), sheetIds);
+        Map<Object, ReportPage> byInputStream = factory.create(getInputStream(fileName), sheetIds);
+
+        for (Map<Object, ReportPage> reportPages : List.of(byPath, byInputStream)) {
+            assertEquals(sheetIds, List.copyOf(reportPages.keySet()));
+            assertEquals(3, reportPages.get(0).getLastRowNum());
+            assertEquals(3, reportPages.get(SHEET_NAME).getLastRowNum());
+        }
+    }
+
+    @Test
+    void create_unknownTypeSheetId_exception() {
+        List<Object> sheetIds = List.of(1L);
+        Path path = getPath("test.xlsx");
+        InputStream is = getInputStream("test.xlsx");
+        assertThrows(ReportPageInstantiationException.class, () -> factory.create(path, sheetIds));
+        assertThrows(ReportPageInstantiationException.class, () -> factory.create(is, sheetIds));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"test.xls", "test.xlsx", "test.xml"})
+    void createAll_ok(String fileName) {
+        ReportPageFactory factory = new MinimalReportPageFactory() {
+            @Override
+            public List<SheetInfo> getSheets(Path path) {
+                return delegate.getSheets(path);
+            }
+
+            @Override
+            public List<SheetInfo> getSheets(InputStream is) {
+                return delegate.getSheets(is);
+            }
+        };
+        Map<String, ReportPage> byPath = factory.createAll(getPath(fileName));
+        Map<String, ReportPage> byInputStream = factory.createAll(getInputStream(fileName));
+
+        assertEquals(Set.of(SHEET_NAME), byPath.keySet());
+        assertEquals(Set.of(SHEET_NAME), byInputStream.keySet());
+        assertEquals(3, byInputStream.get(SHEET_NAME).getLastRowNum());
+    }
+
+    @Test
+    void getSheets_notSupported_exception() {
+        Path path = getPath("test.xlsx");
+        InputStream is = getInputStream("test.xlsx");
+        assertThrows(ReportPageInstantiationException.class, () -> factory.getSheets(path));
+        assertThrows(ReportPageInstantiationException.class, () -> factory.getSheets(is));
+        assertThrows(ReportPageInstantiationException.class, () -> factory.createAll(path));
+    }
+
+    @Test
+    void createBatch_failureCaptured() {
+        List<Path> paths = List.of(getPath("test.xlsx"), getPath("test.bin"), getPath("test.csv"));
+        List<Integer> consumed = new ArrayList<>();
+
+        List<BatchResult<Path>> results = factory.createBatch(paths, factory::create, r -> consumed.add(r.getIndex()));
+
+        assertEquals(List.of(0, 1, 2), consumed);
+        assertTrue(results.get(0).isSuccess());
+        assertSame(ReportPageInstantiationException.class, requireNonNull(results.get(1).getException()).getClass());
+        assertTrue(results.get(2).isSuccess());
+    }
+
+    @Test
+    void create_rowWindow_allRowsRead() {
+        RowWindow window = RowWindow.firstRows(1);
+        for (ReportPage reportPage : List.of(
+                factory.create(getPath("test.xlsx"), window),
+                factory.create(getPath("test.xlsx"), SHEET_NAME, window),
+                factory.create(getInputStream("test.xlsx"), window),
+                factory.create(getInputStream("test.xlsx"), SHEET_NAME, window))) {
+            assertEquals(3, reportPage.getLastRowNum());
+        }
+    }
+
+    @Test
+    void open_ok() {
+        for (ReportPageHandle handle : List.of(
+                factory.open(getPath("test.xlsx")),
+                factory.open(getPath("test.xlsx"), SHEET_NAME),
+                factory.open(getInputStream("test.xlsx")),
+                factory.open(getInputStream("test.xlsx"), SHEET_NAME))) {
+            assertEquals(3, handle.getReportPage().getLastRowNum());
+            handle.close();
+        }
+    }
+
+    @Test
+    void createAsync_ok() {
+        ReportPage reportPage = factory.createAsync(getPath("test.xlsx")).join();
+        assertEquals(3, reportPage.getLastRowNum());
+    }
+
+    @Test
+    void createAsync_rowWindow_ok() {
+        RowWindow window = RowWindow.firstRows(2);
+        DefaultReportPageFactory factory = new DefaultReportPageFactory();
+        for (CompletableFuture<ReportPage> future : List.of(
+                factory.createAsync(getPath("test.xlsx"), window),
+                factory.createAsync(getPath("test.xlsx"), 0, window),
+                factory.createAsync(getPath("test.xlsx"), SHEET_NAME, window),
+                factory.createAsync(getInputStream("test.xlsx"), window),
+                factory.createAsync(getInputStream("test.xlsx"), 0, window),
+                factory.createAsync(getInputStream("test.xlsx"), SHEET_NAME, window))) {
+            assertEquals(1, future.join().getLastRowNum());
+        }
+    }
+
+    /**
+     * Implements abstract methods only.
+     */
+    static class MinimalReportPageFactory implements ReportPageFactory {
+
+        final DefaultReportPageFactory delegate = new DefaultReportPageFactory();
+
+        @Override
+        public ReportPage create(Path path, Integer sheetNumber) {
+            return delegate.create(path, sheetNumber);
+        }
+
+        @Override
+        public ReportPage create(Path path, String sheetName) {
+            return delegate.create(path, sheetName);
+        }
+
+        @Override
+        public ReportPage create(InputStream is, Integer sheetNumber) {
+            return delegate.create(is, sheetNumber);
+        }
+
+        @Override
+        public ReportPage create(InputStream is, String sheetName) {
+            return delegate.create(is, sheetName);
+        }
+    }
+}
@@ -34,10 +34,14 @@ import java.io.ByteArrayInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 
+import static java.nio.charset.StandardCharsets.UTF_16LE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 class ReportPageFactoryTestFileCreator {
     static final Path root = Path.of("target", "test-classes", "test-data");
     static final String SHEET_NAME = "SheetA";
@@ -50,6 +54,7 @@ class ReportPageFactoryTestFileCreator {
         createCsvFile("test.txt");
         createEmptyFile("empty.txt");
         createXmlFile("test.xml");
+        createUtf16XmlFile("test-utf16.xml", "test.xml");
         try (HSSFWorkbook workbook = new HSSFWorkbook()) {
             createExcelFile("test.xls", workbook);
         }
@@ -123,6 +128,20 @@ class ReportPageFactoryTestFileCreator {
         new XSerializer().serialize(workbook);
     }
 
+    /**
+     * Converts UTF-8 xml file to UTF-16 little-endian with byte order mark, as saved by Excel
+     */
+    static void createUtf16XmlFile(@SuppressWarnings("SameParameterValue") String fileName,
+                                   @SuppressWarnings("SameParameterValue") String utf8XmlFileName) throws IOException {
+        String xml = Files.readString(getPath(utf8XmlFileName), UTF_8)
+                .replaceFirst("(?i)encoding=\"UTF-8\"", "encoding=\"UTF-16\"");
+        Path path = getPath(fileName);
+        try (OutputStream os = Files.newOutputStream(path)) {
+            os.write(new byte[]{(byte) 0xFF, (byte) 0xFE});
+            os.write(xml.getBytes(UTF_16LE));
+        }
+    }
+
     static void createExcelFile(String fileName, org.apache.poi.ss.usermodel.Workbook workbook) throws IOException {
         Path path = getPath(fileName);
         try (FileOutputStream fos = new FileOutputStream(path.toFile())) {
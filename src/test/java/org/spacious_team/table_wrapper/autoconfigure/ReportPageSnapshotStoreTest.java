@@ -0,0 +1,110 @@
+/*
+ * Table Wrapper Spring Boot Starter
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.autoconfigure;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.spacious_team.table_wrapper.api.TableCell;
+import org.spacious_team.table_wrapper.api.TableCellAddress;
+import org.spacious_team.table_wrapper.csv.CsvReportPage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.Callable;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReportPageSnapshotStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void get_touchedSource_validatedByContentHash() throws Exception {
+        Path source = Files.writeString(tempDir.resolve("test.csv"), "a,b", UTF_8);
+        ReportPageSnapshotStore store = new ReportPageSnapshotStore(tempDir.resolve("snapshots"));
+
+        store.get(source, 0, creator(source));
+        Files.setLastModifiedTime(source, FileTime.fromMillis(0));
+        CompactReportPage reportPage = store.get(source, 0, creator(source));
+        store.get(source, 0, creator(source));
+
+        assertEquals("b", getCellValue(reportPage));
+        assertEquals(2, store.getHitCount());
+        assertEquals(1, store.getMissCount());
+    }
+
+    @Test
+    void get_sourceChanged_recreated() throws Exception {
+        Path source = Files.writeString(tempDir.resolve("test.csv"), "a,b", UTF_8);
+        ReportPageSnapshotStore store = new ReportPageSnapshotStore(tempDir.resolve("snapshots"));
+
+        store.get(source, 0, creator(source));
+        Files.writeString(source, "a,c", UTF_8);
+        Files.setLastModifiedTime(source, FileTime.fromMillis(0));
+        CompactReportPage sameSize = store.get(source, 0, creator(source));
+        Files.writeString(source, "a,bc", UTF_8);
+        CompactReportPage otherSize = store.get(source, 0, creator(source));
+
+        assertEquals("c", getCellValue(sameSize));
+        assertEquals("bc", getCellValue(otherSize));
+        assertEquals(0, store.getHitCount());
+        assertEquals(3, store.getMissCount());
+    }
+
+    @Test
+    void get_contentHashValidated_sameAttributesSourceChangeDetected() throws Exception {
+        Path source = Files.writeString(tempDir.resolve("test.csv"), "a,b", UTF_8);
+        FileTime lastModified = Files.getLastModifiedTime(source);
+        ReportPageSnapshotStore store = new ReportPageSnapshotStore(tempDir.resolve("snapshots"), true);
+
+        store.get(source, 0, creator(source));
+        Files.writeString(source, "a,c", UTF_8);
+        Files.setLastModifiedTime(source, lastModified);  // change is not visible by file attributes
+        CompactReportPage reportPage = store.get(source, 0, creator(source));
+
+        assertEquals("c", getCellValue(reportPage));
+        assertEquals(2, store.getMissCount());
+    }
+
+    @Test
+    void getSnapshotPath_defaultDirectory() throws IOException {
+        Path dir1 = Files.createDirectories(tempDir.resolve("dir1"));
+        Path dir2 = Files.createDirectories(tempDir.resolve("dir2"));
+        ReportPageSnapshotStore store = new ReportPageSnapshotStore();
+
+        Path snapshot1 = store.getSnapshotPath(dir1.resolve("test.csv"), 0);
+        Path snapshot2 = store.getSnapshotPath(dir2.resolve("test.csv"), 0);
+
+        assertEquals(ReportPageSnapshotStore.getDefaultDirectory(), snapshot1.getParent());
+        assertNotEquals(snapshot1, snapshot2);  // same file names don't share snapshot
+    }
+
+    private static Callable<CompactReportPage> creator(Path source) {
+        return () -> CompactReportPage.of(new CsvReportPage(source));
+    }
+
+    private static Object getCellValue(CompactReportPage reportPage) {
+        TableCell cell = reportPage.getCell(TableCellAddress.of(0, 1));
+        return (cell == null) ? "" : String.valueOf(cell.getValue());
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Table Wrapper Spring Boot Starter
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.autoconfigure;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.context.properties.bind.BindException;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.core.task.TaskExecutor;
+
+import java.util.concurrent.Executor;
+
+import static java.util.Objects.requireNonNull;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.spacious_team.table_wrapper.autoconfigure.ParserEngine.DOM;
+import static org.spacious_team.table_wrapper.autoconfigure.ParserEngine.STREAMING;
+import static org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME;
+
+class TableWrapperAutoConfigurationTest {
+
+    final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(TableWrapperAutoConfiguration.class));
+
+    @Test
+    void defaultProperties() {
+        contextRunner.run(context -> {
+            DefaultReportPageFactory factory = context.getBean(DefaultContextAwareReportPageFactory.class);
+            assertEquals(32 * 1024 * 1024, factory.getInMemoryThreshold());
+            assertEquals(FileFormatDetector.DEFAULT_WINDOW_SIZE, factory.getFormatDetectionWindowSize());
+            assertEquals(DOM, factory.getXlsEngine());
+            assertEquals(DOM, factory.getXlsxEngine());
+            assertFalse(factory.isMemoryMappedCsv());
+            assertNull(factory.getWorkbookCache());
+            assertNull(factory.getReportPageCache());
+            assertNull(factory.getMemoryBudget());
+        });
+    }
+
+    @Test
+    void customProperties() {
+        contextRunner
+                .withPropertyValues(
+                        "table-wrapper.in-memory-threshold=1MB",
+                        "table-wrapper.format-detection-window=16KB",
+                        "table-wrapper.engine.xls=streaming",
+                        "table-wrapper.engine.xlsx=streaming",
+                        "table-wrapper.csv.memory-mapped=true",
+                        "table-wrapper.compact-report-pages=true",
+                        "table-wrapper.indexed-report-pages=true",
+                        "table-wrapper.batch.parallelism=3",
+                        "table-wrapper.workbook-cache.enabled=true",
+                        "table-wrapper.workbook-cache.max-entries=4",
+                        "table-wrapper.report-page-cache.enabled=true",
+                        "table-wrapper.memory-budget.enabled=true",
+                        "table-wrapper.memory-budget.max-size=256MB",
+                        "table-wrapper.memory-budget.exhaustion-policy=fail",
+                        "table-wrapper.executor.core-size=1",
+                        "table-wrapper.executor.max-size=1")
+                .run(context -> {
+                    DefaultReportPageFactory factory = context.getBean(DefaultContextAwareReportPageFactory.class);
+                    assertEquals(1024 * 1024, factory.getInMemoryThreshold());
+                    assertEquals(16 * 1024, factory.getFormatDetectionWindowSize());
+                    assertEquals(STREAMING, factory.getXlsEngine());
+                    assertEquals(STREAMING, factory.getXlsxEngine());
+                    assertTrue(factory.isMemoryMappedCsv());
+                    assertTrue(factory.isCompactReportPages());
+                    assertTrue(factory.isIndexedReportPages());
+                    assertEquals(3, factory.getBatchParallelism());
+                    assertNotNull(factory.getWorkbookCache());
+                    assertNotNull(factory.getReportPageCache());
+                    MemoryBudget budget = requireNonNull(factory.getMemoryBudget());
+                    assertEquals(256 * 1024 * 1024, budget.getMaxBytes());
+                    assertEquals(MemoryBudget.ExhaustionPolicy.FAIL, budget.getExhaustionPolicy());
+                    assertSame(context.getBean(TableWrapperAutoConfiguration.TASK_EXECUTOR_BEAN_NAME),
+                            factory.getAsyncExecutor());
+                });
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "table-wrapper.in-memory-threshold=0",
+            "table-wrapper.format-detection-window=-1KB",
+            "table-wrapper.workbook-cache.max-entries=0",
+            "table-wrapper.report-page-cache.max-weight=0",
+            "table-wrapper.report-page-cache.time-to-live=0s",
+            "table-wrapper.memory-budget.max-size=0",
+            "table-wrapper.executor.max-size=0",
+            "table-wrapper.batch.parallelism=-1"})
+    void invalidProperty_startupFailed(String property) {
+        String key = property.substring(0, property.indexOf('='));
+        contextRunner
+                .withPropertyValues(property)
+                .run(context -> {
+                    Throwable failure = context.getStartupFailure();
+                    assertNotNull(failure);
+                    BindException bindException = getCause(failure, BindException.class);
+                    assertTrue(key.startsWith(bindException.getName().toString()));
+                    assertInstanceOf(IllegalArgumentException.class, NestedExceptionUtils.getRootCause(failure));
+                });
+    }
+
+    private static <T extends Throwable> T getCause(Throwable throwable, Class<T> type) {
+        for (@Nullable Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (type.isInstance(cause)) {
+                return type.cast(cause);
+            }
+        }
+        return fail("No " + type.getSimpleName() + " in " + throwable);
+    }
+
+    @Test
+    void taskExecutor_applicationExecutorNotReplaced() {
+        new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(
+                        TaskExecutionAutoConfiguration.class, TableWrapperAutoConfiguration.class))
+                .run(context -> {
+                    Object applicationExecutor = context.getBean(APPLICATION_TASK_EXECUTOR_BEAN_NAME);
+                    assertSame(applicationExecutor, context.getBean(Executor.class));
+                    assertSame(applicationExecutor, context.getBean(TaskExecutor.class));
+                    DefaultReportPageFactory factory = context.getBean(DefaultContextAwareReportPageFactory.class);
+                    assertSame(context.getBean(TableWrapperAutoConfiguration.TASK_EXECUTOR_BEAN_NAME),
+                            factory.getAsyncExecutor());
+                });
+    }
+}
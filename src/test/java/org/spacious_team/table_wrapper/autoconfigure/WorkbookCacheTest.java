@@ -0,0 +1,119 @@
+/*
+ * Table Wrapper Spring Boot Starter
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.autoconfigure;
+
+import org.junit.jupiter.api.Test;
+import org.spacious_team.table_wrapper.autoconfigure.WorkbookCache.Key;
+
+import java.io.ByteArrayInputStream;
+import java.time.Clock;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.spacious_team.table_wrapper.autoconfigure.DefaultReportPageFactory.KnownFileExtension.XLSX;
+
+class WorkbookCacheTest {
+
+    @Test
+    void get_sameContent_hit() throws Exception {
+        WorkbookCache cache = new WorkbookCache(10, 100, Duration.ofMinutes(1));
+
+        Object workbook1 = cache.get(key(1, 2, 3), Object::new);
+        Object workbook2 = cache.get(key(1, 2, 3), Object::new);
+
+        assertSame(workbook1, workbook2);
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    void get_overMaxEntries_leastRecentlyUsedEvicted() throws Exception {
+        WorkbookCache cache = new WorkbookCache(2, 100, Duration.ofMinutes(1));
+
+        Object workbook1 = cache.get(key(1), Object::new);
+        cache.get(key(2), Object::new);
+        cache.get(key(1), Object::new);  // key(2) becomes the eldest
+        cache.get(key(3), Object::new);
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+        assertSame(workbook1, cache.get(key(1), Object::new));
+    }
+
+    @Test
+    void get_overMaxWeight_evicted() throws Exception {
+        WorkbookCache cache = new WorkbookCache(10, 5, Duration.ofMinutes(1));
+
+        cache.get(key(1, 2, 3), Object::new);
+        cache.get(key(4, 5, 6), Object::new);
+
+        assertEquals(1, cache.size());
+        assertEquals(3, cache.weight());
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    @Test
+    void get_expired_reloaded() throws Exception {
+        Clock clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(0L, 0L, 2_000L, 2_000L);
+        WorkbookCache cache = new WorkbookCache(10, 100, Duration.ofSeconds(1), clock);
+
+        Object workbook1 = cache.get(key(1), Object::new);
+        Object workbook2 = cache.get(key(1), Object::new);
+
+        assertNotSame(workbook1, workbook2);
+        assertEquals(2, cache.getMissCount());
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    @Test
+    void get_evictedOrNotCached_resourceReleased() throws Exception {
+        WorkbookCache cache = new WorkbookCache(1, 3, Duration.ofMinutes(1));
+        AutoCloseable resource1 = mock(AutoCloseable.class);
+        AutoCloseable resource2 = mock(AutoCloseable.class);
+        AutoCloseable resource3 = mock(AutoCloseable.class);
+
+        cache.get(key(1), Object::new, () -> resource1);
+        cache.get(key(2), Object::new, () -> resource2);  // evicts key(1)
+        cache.get(key(1, 2, 3, 4), Object::new, () -> resource3);  // over max weight
+
+        verify(resource1).close();
+        verify(resource2, never()).close();
+        verify(resource3).close();
+        cache.clear();
+        verify(resource2).close();
+    }
+
+    @Test
+    void key_streamIsReset() {
+        ByteArrayInputStream bais = new ByteArrayInputStream(new byte[]{1, 2, 3});
+        assertEquals(key(1, 2, 3), Key.of(bais, XLSX));
+        assertEquals(3, bais.available());
+        assertNotEquals(key(1, 2, 4), Key.of(bais, XLSX));
+    }
+
+    private static Key key(int... bytes) {
+        byte[] data = new byte[bytes.length];
+        for (int i = 0; i < bytes.length; i++) {
+            data[i] = (byte) bytes[i];
+        }
+        return Key.of(new ByteArrayInputStream(data), XLSX);
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Table Wrapper Spring Boot Starter
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.autoconfigure;
+
+import org.junit.jupiter.api.Test;
+import org.xml.sax.SAXException;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class XmlParserPoolTest {
+
+    @Test
+    void borrow_releasedParserReused() throws ParserConfigurationException, SAXException {
+        AtomicInteger created = new AtomicInteger();
+        XmlParserPool<Object> pool = new XmlParserPool<>(1, () -> created.incrementAndGet() + "");
+
+        Object parser = pool.borrow();
+        pool.release(parser);
+
+        assertSame(parser, pool.borrow());
+        assertEquals(1, created.get());
+    }
+
+    @Test
+    void borrow_notReleasedParserNotReused() throws ParserConfigurationException, SAXException {
+        XmlParserPool<Object> pool = new XmlParserPool<>(1, Object::new);
+
+        Object parser = pool.borrow();
+
+        assertNotSame(parser, pool.borrow());
+    }
+
+    @Test
+    void release_poolIsFull_parserDropped() throws ParserConfigurationException, SAXException {
+        XmlParserPool<Object> pool = new XmlParserPool<>(1, Object::new);
+        Object parser1 = pool.borrow();
+        Object parser2 = pool.borrow();
+
+        pool.release(parser1);
+        pool.release(parser2);
+
+        assertSame(parser1, pool.borrow());
+        Object parser3 = pool.borrow();
+        assertNotSame(parser1, parser3);
+        assertNotSame(parser2, parser3);
+    }
+}
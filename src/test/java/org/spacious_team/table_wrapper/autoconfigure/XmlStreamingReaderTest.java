@@ -0,0 +1,95 @@
+/*
+ * Table Wrapper Spring Boot Starter
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.autoconfigure;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.jupiter.api.Test;
+import org.spacious_team.table_wrapper.api.ReportPage;
+import org.spacious_team.table_wrapper.api.TableCell;
+import org.spacious_team.table_wrapper.api.TableCellAddress;
+
+import javax.xml.stream.XMLStreamException;
+import java.io.ByteArrayInputStream;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+
+class XmlStreamingReaderTest {
+
+    static final String XML = "<?xml version=\"1.0\"?>\n" +
+            "<Workbook xmlns=\"urn:schemas-microsoft-com:office:spreadsheet\"" +
+            " xmlns:ss=\"urn:schemas-microsoft-com:office:spreadsheet\"" +
+            " xmlns:html=\"http://www.w3.org/TR/REC-html40\">\n" +
+            " <Worksheet ss:Name=\"Sheet1\"><Table><Row><Cell><Data ss:Type=\"String\">skipped</Data></Cell></Row>" +
+            "</Table></Worksheet>\n" +
+            " <Worksheet ss:Name=\"Sheet2\"><Table>\n" +
+            "  <Row><Cell ss:MergeAcross=\"1\"><Data ss:Type=\"String\">merged</Data></Cell>" +
+            "<Cell><Data ss:Type=\"Number\">1.5</Data></Cell></Row>\n" +
+            "  <Row ss:Index=\"3\"><Cell ss:Index=\"2\"><ss:Data ss:Type=\"String\">" +
+            "<html:B>rich</html:B> text</ss:Data>" +
+            "<Comment><ss:Data>comment</ss:Data></Comment></Cell><Cell/><Cell><Data ss:Type=\"String\">d</Data></Cell>" +
+            "</Row>\n" +
+            " </Table></Worksheet>\n" +
+            "</Workbook>";
+
+    @Test
+    void read() throws XMLStreamException {
+        List<SheetPage> pages = XmlStreamingReader.read(
+                new ByteArrayInputStream(XML.getBytes(UTF_8)), SheetSelector.of("Sheet2"));
+
+        assertEquals(1, pages.size());
+        assertEquals(1, pages.get(0).getSheetIndex());
+        ReportPage reportPage = pages.get(0).getReportPage();
+        assertEquals("merged", getCellValue(reportPage, 0, 0));
+        assertEquals("1.5", getCellValue(reportPage, 0, 2));
+        assertNull(getCellValue(reportPage, 1, 0));
+        assertEquals("rich text", getCellValue(reportPage, 2, 1));
+        assertNull(getCellValue(reportPage, 2, 2));
+        assertEquals("d", getCellValue(reportPage, 2, 3));
+        assertEquals(2, reportPage.getLastRowNum());
+    }
+
+    @Test
+    void read_all() throws XMLStreamException {
+        List<SheetPage> pages = XmlStreamingReader.read(
+                new ByteArrayInputStream(XML.getBytes(UTF_8)), SheetSelector.all());
+
+        assertEquals(2, pages.size());
+        assertEquals("Sheet1", pages.get(0).getSheetName());
+        assertEquals("skipped", getCellValue(pages.get(0).getReportPage(), 0, 0));
+    }
+
+    @Test
+    void readSheets() throws XMLStreamException {
+        String xml = XML.replace("<Table>\n", "<Table ss:ExpandedRowCount=\"3\" ss:ExpandedColumnCount=\"4\">\n");
+
+        List<SheetInfo> sheets = XmlStreamingReader.readSheets(new ByteArrayInputStream(xml.getBytes(UTF_8)));
+
+        assertEquals(List.of(
+                        new SheetInfo(0, "Sheet1", SheetInfo.UNKNOWN, SheetInfo.UNKNOWN),
+                        new SheetInfo(1, "Sheet2", 3, 4)),
+                sheets);
+    }
+
+    private static @Nullable Object getCellValue(ReportPage reportPage, int row, int column) {
+        TableCell cell = reportPage.getCell(TableCellAddress.of(row, column));
+        return (cell == null) ? null : cell.getValue();
+    }
+}